@@ -0,0 +1,85 @@
+package ru.practicum.shareit.benchmarks;
+
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds detached entities with realistic field sizes for the in-memory benchmarks.
+ */
+final class BenchmarkData {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setUserId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setVersion(0L);
+        return user;
+    }
+
+    static Item item(long id, int comments) {
+        Item item = new Item();
+        item.setItemId(id);
+        item.setName("Cordless drill " + id);
+        item.setDescription("Cordless drill with two batteries, a charger and a set of bits, item " + id);
+        item.setAvailable(true);
+        item.setOwnerId(1L);
+        item.setVersion(0L);
+        for (int i = 0; i < comments; i++) {
+            Comment comment = new Comment();
+            comment.setId(id * 1000 + i);
+            comment.setText("Worked great for assembling furniture, comment " + i);
+            comment.setItem(item);
+            comment.setAuthor(user(2L + i));
+            comment.setCreated(BASE_TIME.plusHours(i));
+            item.getComments().add(comment);
+        }
+        return item;
+    }
+
+    static List<Item> items(int count, int comments) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            items.add(item(i, comments));
+        }
+        return items;
+    }
+
+    static Booking booking(long id, Item item) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setStartTime(BASE_TIME.plusDays(id));
+        booking.setEndTime(BASE_TIME.plusDays(id + 1));
+        booking.setItem(item);
+        booking.setBooker(user(2L));
+        booking.setStatus(BookingStatus.APPROVED);
+        booking.setVersion(0L);
+        return booking;
+    }
+
+    static ItemRequest request(long id, int items) {
+        ItemRequest request = new ItemRequest();
+        request.setRequestId(id);
+        request.setDescription("Looking for a cordless drill for the weekend");
+        request.setCreated(BASE_TIME);
+        request.setUserId(2L);
+        request.setVersion(0L);
+        for (Item item : items(items, 0)) {
+            item.setRequest(request);
+            request.getItems().add(item);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.enums.BookingState;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `BookingServiceImpl.getBookingsByBookerIdAndState` end to end (JPA query, mapping, transaction)
+ * against the server's own Flyway schema on an embedded H2 database.
+ *
+ * The database holds `bookings` bookings spread over `bookers` bookers and 100 items, with start times from
+ * a year ago to a year ahead and a mix of approved, waiting and rejected statuses. Bookings last up to two
+ * days but end before the next booking of the same item starts, so approved ones never overlap, as the
+ * PostgreSQL exclusion constraint requires. The benchmark reads the first page of `pageSize` bookings of one
+ * booker for every `state`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+    private static final int ITEMS = 100;
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1000", "100000"})
+    int bookings;
+
+    @Param({"100"})
+    int bookers;
+
+    @Param({"10"})
+    int pageSize;
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    BookingState state;
+
+    ConfigurableApplicationContext context;
+    BookingService bookingService;
+    long bookerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        bookingService = context.getBean(BookingService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<BookingDto> getBookingsByBookerIdAndState() {
+        return bookingService.getBookingsByBookerIdAndState(bookerId, state, null, 0, pageSize);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i <= bookers; i++) {
+            users.add(new Object[]{"User " + i, "user" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", users);
+        // Ids come from pooled sequences and are not consecutive, so read back the ones that were assigned.
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT user_id FROM users ORDER BY user_id", Long.class);
+        long ownerId = userIds.get(0);
+        bookerId = userIds.get(1);
+
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Object[]{"Item " + i, "Description of item " + i, true, ownerId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO items (name, description, is_available, owner_id) VALUES (?, ?, ?, ?)",
+                items);
+        List<Long> itemIds = jdbcTemplate.queryForList("SELECT item_id FROM items ORDER BY item_id", Long.class);
+
+        LocalDateTime firstStart = LocalDateTime.now().minusYears(1);
+        long minutesBetweenStarts = Math.max(1, 2L * 365 * 24 * 60 / bookings);
+        // Bookings of one item start ITEMS bookings apart; ending by then keeps them from overlapping.
+        long bookingMinutes = Math.min(2L * 24 * 60, ITEMS * minutesBetweenStarts);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < bookings; i++) {
+            LocalDateTime start = firstStart.plusMinutes(i * minutesBetweenStarts);
+            batch.add(new Object[]{
+                    Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusMinutes(bookingMinutes)),
+                    itemIds.get(i % ITEMS),
+                    userIds.get(1 + i % bookers),
+                    status(i)
+            });
+            if (batch.size() == BATCH_SIZE || i == bookings - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO bookings (start_time, end_time, item_id, booker_id, status) "
+                        + "VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static String status(int index) {
+        return switch (index % 10) {
+            case 0 -> "REJECTED";
+            case 1, 2 -> "WAITING";
+            default -> "APPROVED";
+        };
+    }
+}
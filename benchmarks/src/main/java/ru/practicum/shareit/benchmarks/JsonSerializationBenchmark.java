@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the DTOs written by the server controllers, for a single object
+ * and for a page of `pageSize` objects, using an `ObjectMapper` configured like the one of Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    @Param({"10", "100"})
+    int pageSize;
+
+    ObjectMapper objectMapper;
+    ItemDto itemDto;
+    BookingDto bookingDto;
+    List<ItemDto> itemPage;
+    List<BookingDto> bookingPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Item item = BenchmarkData.item(1L, 5);
+        itemDto = ItemMapper.convertToDto(item);
+        bookingDto = BookingMapper.convertToDto(BenchmarkData.booking(1L, item));
+        itemPage = BenchmarkData.items(pageSize, 5).stream()
+                .map(ItemMapper::convertToDto)
+                .toList();
+        bookingPage = BenchmarkData.items(pageSize, 0).stream()
+                .map(pageItem -> BookingMapper.convertToDto(BenchmarkData.booking(pageItem.getItemId(), pageItem)))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] itemDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(itemDto);
+    }
+
+    @Benchmark
+    public byte[] bookingDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingDto);
+    }
+
+    @Benchmark
+    public byte[] itemDtoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(itemPage);
+    }
+
+    @Benchmark
+    public byte[] bookingDtoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingPage);
+    }
+}
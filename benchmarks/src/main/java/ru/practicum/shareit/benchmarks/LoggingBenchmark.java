@@ -0,0 +1,110 @@
+package ru.practicum.shareit.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.logging.InfoSamplingTurboFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request logging of the server and the gateway before and after moving it off INFO.
+ *
+ * Each pair logs the same message the old way (INFO, or an unguarded error body) and the new way (DEBUG with
+ * INFO enabled, a sampled controller logger, or a guarded body). Events go to an appender that only formats
+ * the message, so the numbers exclude any I/O. Run with `-prof gc` and compare `gc.alloc.rate.norm`, the bytes
+ * allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final int SAMPLE_RATE = 10;
+
+    Logger serviceLogger;
+    Logger controllerLogger;
+    Item item;
+    byte[] errorBody;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        InfoSamplingTurboFilter samplingFilter = new InfoSamplingTurboFilter();
+        samplingFilter.addLoggerSuffix("Controller");
+        samplingFilter.setSampleRate(SAMPLE_RATE);
+        samplingFilter.setContext(context);
+        samplingFilter.start();
+        context.addTurboFilter(samplingFilter);
+
+        FormattingAppender appender = new FormattingAppender();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        serviceLogger = context.getLogger("ru.practicum.shareit.item.ItemServiceImpl");
+        controllerLogger = context.getLogger("ru.practicum.shareit.item.ItemController");
+        item = BenchmarkData.item(1L, 0);
+        errorBody = "{\"error\":\"Item with id 1 not found\",\"description\":\"NOT_FOUND\"}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void fetchItemAtInfo() {
+        serviceLogger.info("Item fetched successfully: id = {}, name = {}, description = {}",
+                item.getItemId(), item.getName(), item.getDescription());
+    }
+
+    @Benchmark
+    public void fetchItemAtDebug() {
+        serviceLogger.debug("Item fetched successfully: id = {}, name = {}, description = {}",
+                item.getItemId(), item.getName(), item.getDescription());
+    }
+
+    @Benchmark
+    public void controllerRequestSampled() {
+        controllerLogger.info("Received GET request for item with id: {} for user with id: {}",
+                item.getItemId(), item.getOwnerId());
+    }
+
+    @Benchmark
+    public void errorBodyUnguarded() {
+        serviceLogger.info("Server error: status={}, body={}", 404, new String(errorBody, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void errorBodyGuarded() {
+        serviceLogger.info("Server error: status={}", 404);
+        if (serviceLogger.isDebugEnabled()) {
+            serviceLogger.debug("Server error body: {}", new String(errorBody, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Formats every event like an encoder would and discards the result.
+     */
+    static class FormattingAppender extends AppenderBase<ILoggingEvent> {
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.getFormattedMessage();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestMapper;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity to DTO conversions done for every item, booking and request returned by the server.
+ *
+ * `comments` sets the number of comments on the item and `requestItems` the number of items answering
+ * the request, since both are mapped element by element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"0", "10"})
+    int comments;
+
+    @Param({"1", "20"})
+    int requestItems;
+
+    Item item;
+    Booking booking;
+    ItemRequest request;
+
+    @Setup
+    public void setUp() {
+        item = BenchmarkData.item(1L, comments);
+        booking = BenchmarkData.booking(1L, item);
+        request = BenchmarkData.request(1L, requestItems);
+    }
+
+    @Benchmark
+    public ItemDto itemToDto() {
+        return ItemMapper.convertToDto(item);
+    }
+
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return BookingMapper.convertToDto(booking);
+    }
+
+    @Benchmark
+    public ItemRequestDto itemRequestToDto() {
+        return ItemRequestMapper.convertToDto(request);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String value) {
+        super("Invalid cursor: " + value);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps roughly one in `sampleRate` INFO events of the per-request loggers and drops the rest.
+ *
+ * A logger is sampled when its name ends with one of the configured `loggerSuffix` values, e.g. `Controller`.
+ * Turbo filters run before logback creates the logging event, so a dropped call costs neither the event nor
+ * the formatting of its arguments. Other levels, other loggers and `isInfoEnabled()` checks are left to the
+ * regular level configuration.
+ */
+public class InfoSamplingTurboFilter extends TurboFilter {
+    private final List<String> loggerSuffixes = new ArrayList<>();
+    private int sampleRate = 1;
+
+    public void addLoggerSuffix(String loggerSuffix) {
+        loggerSuffixes.add(loggerSuffix);
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void start() {
+        if (sampleRate < 1) {
+            addError("sampleRate must be at least 1, got " + sampleRate);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || sampleRate == 1 || level != Level.INFO || format == null || !isSampled(logger)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(Logger logger) {
+        String name = logger.getName();
+        for (String suffix : loggerSuffixes) {
+            if (name.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
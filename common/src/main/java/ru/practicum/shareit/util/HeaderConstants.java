@@ -7,4 +7,5 @@ public class HeaderConstants {
     }
 
     public static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public class PathConstants {
     public static final String BOOKING_ID_PATH = "/{booking-id}";
     public static final String USERS_PATH = "/users";
     public static final String USER_ID_PATH = "/{user-id}";
+    public static final String USERS_IMPORT_PATH = "/import";
+    public static final String USERS_EXPORT_PATH = "/export";
     public static final String REQUESTS_PATH = "/requests";
     public static final String REQUESTS_ALL_PATH = "/all";
     public static final String REQUEST_ID_PATH = "/{request-id}";
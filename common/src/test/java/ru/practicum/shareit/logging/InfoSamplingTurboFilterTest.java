@@ -0,0 +1,82 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.status.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InfoSamplingTurboFilterTest {
+    private LoggerContext context;
+    private Logger controllerLogger;
+    private InfoSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        controllerLogger = context.getLogger("ru.practicum.shareit.item.ItemController");
+        filter = new InfoSamplingTurboFilter();
+        filter.setContext(context);
+        filter.addLoggerSuffix("Controller");
+    }
+
+    @Test
+    void decideSamplesInfoOfMatchingLoggers() {
+        filter.setSampleRate(10);
+        filter.start();
+
+        int denied = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (decide(controllerLogger, Level.INFO) == FilterReply.DENY) {
+                denied++;
+            }
+        }
+
+        assertTrue(denied > 8_000 && denied < 10_000, "denied " + denied + " of 10000");
+    }
+
+    @Test
+    void decideLeavesOtherEventsToLevelConfiguration() {
+        filter.setSampleRate(Integer.MAX_VALUE);
+        filter.start();
+        Logger serviceLogger = context.getLogger("ru.practicum.shareit.item.ItemServiceImpl");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(controllerLogger, Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(serviceLogger, Level.INFO));
+            assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, controllerLogger, Level.INFO, null, null, null));
+        }
+    }
+
+    @Test
+    void decideKeepsEverythingWithDefaultRate() {
+        filter.start();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(controllerLogger, Level.INFO));
+        }
+    }
+
+    @Test
+    void startRejectsRateBelowOne() {
+        filter.setSampleRate(0);
+        filter.start();
+
+        assertFalse(filter.isStarted());
+        assertTrue(context.getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getLevel() == Status.ERROR
+                        && status.getMessage().contains("sampleRate")));
+        assertEquals(FilterReply.NEUTRAL, decide(controllerLogger, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "Request {}", new Object[]{1}, null);
+    }
+}
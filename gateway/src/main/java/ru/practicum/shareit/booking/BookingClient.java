@@ -1,41 +1,55 @@
 package ru.practicum.shareit.booking;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CachedRoute;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.enums.BookingState;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, ResponseCache responseCache,
+                         ObjectMapper objectMapper) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
-    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size,
+                                              String cursor) {
+        return getBookingPage("", userId, state, from, size, cursor);
+    }
+
+    public ResponseEntity<Object> getOwnerBookings(long ownerId, BookingState state, Integer from, Integer size,
+                                                   String cursor) {
+        return getBookingPage("/owner", ownerId, state, from, size, cursor);
     }
 
     public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
@@ -43,12 +57,56 @@ public class BookingClient extends BaseClient {
     }
 
     public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
-        return post("", userId, requestDto);
+        ResponseEntity<Object> response = post("", userId, requestDto);
+        responseCache.invalidate(CachedRoute.ITEMS, requestDto.getItemId());
+        return response;
     }
 
     public ResponseEntity<Object> approveBooking(long bookingId, Long userId, boolean approved) {
         log.info("Approving booking with id: {} by user with id: {}", bookingId, userId);
         Map<String, Object> parameters = Map.of("approved", approved);
-        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+        ResponseEntity<Object> response = patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+        if (response.getStatusCode().is2xxSuccessful()) {
+            bookedItemId(response).ifPresentOrElse(
+                    itemId -> responseCache.invalidate(CachedRoute.ITEMS, itemId),
+                    () -> responseCache.invalidateAll(CachedRoute.ITEMS));
+        }
+        return response;
+    }
+
+    /**
+     * Reads the id of the booked item from a booking response, which is otherwise forwarded without parsing.
+     */
+    private Optional<Long> bookedItemId(ResponseEntity<Object> response) {
+        if (!(response.getBody() instanceof byte[] body)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode itemId = objectMapper.readTree(body).path("item").path("id");
+            return itemId.canConvertToLong() ? Optional.of(itemId.asLong()) : Optional.empty();
+        } catch (IOException e) {
+            log.warn("Could not read the item id of an approved booking: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private ResponseEntity<Object> getBookingPage(String path, long userId, BookingState state, Integer from,
+                                                  Integer size, String cursor) {
+        if (cursor == null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "from", from,
+                    "size", size
+            );
+            return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
+        }
+
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size,
+                "cursor", cursor
+        );
+        return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 }
\ No newline at end of file
@@ -34,12 +34,26 @@ public class BookingController {
 	public ResponseEntity<Object> getBookings(@RequestHeader(HeaderConstants.USER_ID_HEADER) @Positive long userId,
 											  @RequestParam(name = "state", defaultValue = "all") String stateParam,
 											  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-											  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+											  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+											  @RequestParam(name = "cursor", required = false) String cursor) {
 		BookingState state = BookingState.from(stateParam)
 				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		log.info("Sending GET request for bookings with state {}, userId={}, from={}, size={}",
-				stateParam, userId, from, size);
-		return bookingClient.getBookings(userId, state, from, size);
+		log.info("Sending GET request for bookings with state {}, userId={}, from={}, size={}, cursor={}",
+				stateParam, userId, from, size, cursor);
+		return bookingClient.getBookings(userId, state, from, size, cursor);
+	}
+
+	@GetMapping(PathConstants.OWNER_PATH)
+	public ResponseEntity<Object> getOwnerBookings(@RequestHeader(HeaderConstants.USER_ID_HEADER) @Positive long ownerId,
+												   @RequestParam(name = "state", defaultValue = "all") String stateParam,
+												   @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+												   @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+												   @RequestParam(name = "cursor", required = false) String cursor) {
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+		log.info("Sending GET request for owner bookings with state {}, ownerId={}, from={}, size={}, cursor={}",
+				stateParam, ownerId, from, size, cursor);
+		return bookingClient.getOwnerBookings(ownerId, state, from, size, cursor);
 	}
 
 	@GetMapping(PathConstants.BOOKING_ID_PATH)
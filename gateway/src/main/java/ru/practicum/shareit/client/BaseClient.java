@@ -6,16 +6,30 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.util.HeaderConstants;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public class BaseClient {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "transfer-encoding",
+            "te", "trailer", "upgrade", "proxy-authenticate", "proxy-authorization", "content-length", "date");
+    private static final ResponseExtractor<ResponseEntity<Object>> PASSTHROUGH_EXTRACTOR =
+            BaseClient::extractPassthroughResponse;
+
     protected final RestTemplate rest;
 
     public BaseClient(RestTemplate rest) {
@@ -38,6 +52,10 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, null, parameters, null);
     }
 
+    protected ResponseEntity<Object> getIfNoneMatch(String path, Long userId, @Nullable String etag) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, null, null, etag);
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -91,21 +109,68 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        return makeAndSendRequest(method, path, userId, parameters, body, null);
+    }
+
+    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body, @Nullable String etag) {
+        HttpHeaders headers = defaultHeaders(userId);
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+        return execute(method, path, parameters, rest.httpEntityCallback(requestEntity, byte[].class));
+    }
+
+    /**
+     * Sends `body` to the server as it is read, so large uploads such as NDJSON imports are never buffered
+     * in the gateway. The response is passed through like any other.
+     */
+    protected ResponseEntity<Object> postStream(String path, MediaType contentType, InputStream body) {
+        RequestCallback requestCallback = request -> {
+            request.getHeaders().setContentType(contentType);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            StreamUtils.copy(body, request.getBody());
+        };
+        return execute(HttpMethod.POST, path, null, requestCallback);
+    }
+
+    /**
+     * Copies a successful server response into `target` while it is being received, e.g. for NDJSON exports.
+     *
+     * The status has already been sent to the client when this runs, so a server error can only abort the
+     * response and is rethrown.
+     */
+    protected void getStream(String path, MediaType accept, OutputStream target) {
+        RequestCallback requestCallback = request -> request.getHeaders().setAccept(List.of(accept));
+        rest.execute(path, HttpMethod.GET, requestCallback, response -> {
+            StreamUtils.copy(response.getBody(), target);
+            return null;
+        });
+    }
+
+    private ResponseEntity<Object> execute(HttpMethod method, String path, @Nullable Map<String, Object> parameters,
+                                           RequestCallback requestCallback) {
         ResponseEntity<Object> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.execute(path, method, requestCallback, PASSTHROUGH_EXTRACTOR, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.execute(path, method, requestCallback, PASSTHROUGH_EXTRACTOR);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Server response: status={}, headers={}, bodyBytes={}",
+                        shareitServerResponse.getStatusCode(),
+                        shareitServerResponse.getHeaders(),
+                        shareitServerResponse.hasBody() ? ((byte[]) shareitServerResponse.getBody()).length : 0);
             }
-            log.info("Server response: status={}, headers={}, body={}",
-                    shareitServerResponse.getStatusCode(),
-                    shareitServerResponse.getHeaders(),
-                    shareitServerResponse.getBody());
         } catch (HttpStatusCodeException e) {
-            log.error("Server error: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            logServerError(method, path, e);
+            ResponseEntity.BodyBuilder errorResponse = ResponseEntity.status(e.getStatusCode());
+            HttpHeaders errorHeaders = e.getResponseHeaders();
+            if (errorHeaders != null && errorHeaders.getContentType() != null) {
+                errorResponse.contentType(errorHeaders.getContentType());
+            }
+            return errorResponse.body(e.getResponseBodyAsByteArray());
         } catch (Exception e) {
             log.error("Unexpected error during request: {}", e.getMessage(), e);
             throw e;
@@ -113,6 +178,48 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    /**
+     * Logs an error status of the server without its body, which is only decoded into a string at DEBUG.
+     *
+     * Client errors are an expected outcome of a proxied request and are logged at WARN without a stack trace.
+     */
+    private static void logServerError(HttpMethod method, String path, HttpStatusCodeException e) {
+        if (e.getStatusCode().is5xxServerError()) {
+            log.error("Server error: {} {} returned status={}", method, path, e.getStatusCode(), e);
+        } else {
+            log.warn("Server error: {} {} returned status={}", method, path, e.getStatusCode());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Server error body: {}", e.getResponseBodyAsString());
+        }
+    }
+
+    /**
+     * Copies the server response into a byte array together with its end-to-end headers.
+     *
+     * The body is handed back to the client as-is by the `ByteArrayHttpMessageConverter`, so the gateway
+     * never builds an object graph for the JSON it only forwards. Error statuses are raised by the
+     * `RestTemplate` error handler before this extractor runs and are mapped in `makeAndSendRequest`.
+     */
+    private static ResponseEntity<Object> extractPassthroughResponse(ClientHttpResponse response) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        response.getHeaders().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.addAll(name, values);
+            }
+        });
+
+        byte[] body = StreamUtils.copyToByteArray(response.getBody());
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode()).headers(headers);
+        return body.length > 0 ? responseBuilder.body(body) : responseBuilder.build();
+    }
+
+    /**
+     * Headers shared by every request to the server.
+     *
+     * Trace context (`traceparent`) is not set here: the `RestTemplate` comes from Spring Boot's
+     * `RestTemplateBuilder`, whose observation customizer adds it to these headers for each exchange.
+     */
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
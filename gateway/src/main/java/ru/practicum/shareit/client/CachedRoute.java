@@ -0,0 +1,10 @@
+package ru.practicum.shareit.client;
+
+/**
+ * Lists the single-resource GET routes whose server responses are cached by the gateway.
+ */
+public enum CachedRoute {
+    ITEMS,
+    USERS,
+    REQUESTS
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Represents the settings of the HTTP connection pool shared by all clients of the ShareIt server.
+ *
+ * It uses the `@ConfigurationProperties` annotation to bind the `shareit-server.http-client` properties.
+ * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
+ * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
+ *
+ * The `maxTotal` field represents the maximum number of connections in the pool.
+ * The `maxPerRoute` field represents the maximum number of connections to a single server host.
+ * The `connectTimeout` field represents how long to wait for a TCP connection to be established.
+ * The `responseTimeout` field represents how long to wait for the server to respond.
+ * The `connectionRequestTimeout` field represents how long to wait for a free connection from the pool.
+ * The `validateAfterInactivity` field represents the idle time after which a connection is checked before reuse.
+ * The `maxIdleTime` field represents the idle time after which a connection is evicted from the pool.
+ * The `timeToLive` field represents the total lifetime of a connection, after which it is not reused.
+ */
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class HttpClientProperties {
+    int maxTotal = 200;
+    int maxPerRoute = 200;
+    Duration connectTimeout = Duration.ofSeconds(2);
+    Duration responseTimeout = Duration.ofSeconds(30);
+    Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    Duration validateAfterInactivity = Duration.ofSeconds(2);
+    Duration maxIdleTime = Duration.ofSeconds(30);
+    Duration timeToLive = Duration.ofMinutes(5);
+}
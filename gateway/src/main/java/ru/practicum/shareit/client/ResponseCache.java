@@ -0,0 +1,209 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches successful server responses of single-resource GET requests in the gateway.
+ *
+ * Every {@link CachedRoute} has its own size-bounded Caffeine cache (W-TinyLFU eviction) and TTL. A fresh
+ * response is served without contacting the server. Once the TTL has passed, a response that carries an
+ * `ETag` is kept for `staleRetention` and revalidated with `If-None-Match`: a `304 Not Modified` answer
+ * refreshes the cached copy, anything else replaces it. Responses without an `ETag` simply expire.
+ *
+ * Clients call `invalidate` or `invalidateAll` after proxying a request that changes a cached resource.
+ * Every invalidation advances the generation of its route, and a response is only stored if the generation
+ * is still the one seen before loading it, so a GET that raced with a change cannot put the old body back.
+ * The keys of each route are also indexed by resource id, so `invalidate` removes the responses of one resource
+ * for all users without scanning the route's cache.
+ * Hit, miss and eviction statistics are published as `cache.*` meters tagged with `cache=gateway-<route>`,
+ * revalidation outcomes as `gateway.response.cache.revalidations`.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+    private static final String REVALIDATIONS_METER = "gateway.response.cache.revalidations";
+
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<CachedRoute, Cache<Key, CachedResponse>> caches = new EnumMap<>(CachedRoute.class);
+    private final Map<CachedRoute, AtomicLong> generations = new EnumMap<>(CachedRoute.class);
+    private final Map<CachedRoute, ConcurrentMap<Long, Set<Key>>> keysById = new EnumMap<>(CachedRoute.class);
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (CachedRoute route : CachedRoute.values()) {
+            ConcurrentMap<Long, Set<Key>> index = new ConcurrentHashMap<>();
+            Cache<Key, CachedResponse> cache = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .expireAfter(new CachedResponseExpiry(properties.getStaleRetention()))
+                    .evictionListener((Key key, CachedResponse value, RemovalCause cause) -> unindex(index, key))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName(route));
+            caches.put(route, cache);
+            generations.put(route, new AtomicLong());
+            keysById.put(route, index);
+        }
+    }
+
+    /**
+     * Returns the cached response for the resource or loads it with `loader`.
+     *
+     * The loader receives the `ETag` to send in `If-None-Match`, or `null` when there is nothing to revalidate.
+     */
+    public ResponseEntity<Object> get(CachedRoute route, long id, @Nullable Long userId,
+                                      Function<String, ResponseEntity<Object>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(null);
+        }
+
+        Cache<Key, CachedResponse> cache = caches.get(route);
+        Key key = new Key(id, userId);
+        long now = System.nanoTime();
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.isFresh(now)) {
+            return cached.response();
+        }
+
+        long generation = generations.get(route).get();
+        String etag = cached != null ? cached.response().getHeaders().getETag() : null;
+        ResponseEntity<Object> response = loader.apply(etag);
+        if (cached != null) {
+            boolean notModified = response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+            meterRegistry.counter(REVALIDATIONS_METER, "cache", cacheName(route),
+                    "result", notModified ? "not_modified" : "modified").increment();
+            if (notModified) {
+                store(route, key, generation, new CachedResponse(cached.response(), freshUntil(route)));
+                return cached.response();
+            }
+        }
+
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+            store(route, key, generation, new CachedResponse(response, freshUntil(route)));
+        } else {
+            ConcurrentMap<Long, Set<Key>> index = keysById.get(route);
+            cache.asMap().compute(key, (k, existing) -> {
+                unindex(index, k);
+                return null;
+            });
+        }
+        return response;
+    }
+
+    public void invalidate(CachedRoute route, long id) {
+        log.debug("Invalidating cached responses for {} with id: {}", route, id);
+        generations.get(route).incrementAndGet();
+        Set<Key> keys = keysById.get(route).remove(id);
+        if (keys != null) {
+            caches.get(route).invalidateAll(keys);
+        }
+    }
+
+    public void invalidateAll(CachedRoute route) {
+        log.debug("Invalidating all cached responses for {}", route);
+        generations.get(route).incrementAndGet();
+        keysById.get(route).clear();
+        caches.get(route).invalidateAll();
+    }
+
+    /**
+     * Stores `value` unless the route was invalidated after `generation` was read. The check runs inside
+     * `compute`, and invalidation advances the generation before removing entries, so a response loaded
+     * before a change is either rejected here or removed by that invalidation.
+     *
+     * The key is indexed inside the same `compute`, and evictions unindex it inside theirs, so the index never
+     * misses a cached key. It may briefly hold a key that is no longer cached, which invalidation skips.
+     */
+    private void store(CachedRoute route, Key key, long generation, CachedResponse value) {
+        AtomicLong current = generations.get(route);
+        ConcurrentMap<Long, Set<Key>> index = keysById.get(route);
+        caches.get(route).asMap().compute(key, (k, existing) -> {
+            if (current.get() != generation) {
+                return existing;
+            }
+            index.compute(k.id(), (id, keys) -> {
+                Set<Key> indexed = keys != null ? keys : new HashSet<>();
+                indexed.add(k);
+                return indexed;
+            });
+            return value;
+        });
+    }
+
+    private static void unindex(ConcurrentMap<Long, Set<Key>> index, Key key) {
+        index.computeIfPresent(key.id(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private long freshUntil(CachedRoute route) {
+        return System.nanoTime() + properties.getTtl(route).toNanos();
+    }
+
+    private static String cacheName(CachedRoute route) {
+        return "gateway-" + route.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Identifies a cached response by resource id and the `X-Sharer-User-Id` it was requested with,
+     * since the server shapes some responses (for example, an item's bookings) by the requesting user.
+     */
+    private record Key(long id, @Nullable Long userId) {
+    }
+
+    private record CachedResponse(ResponseEntity<Object> response, long freshUntilNanos) {
+        boolean isFresh(long now) {
+            return now - freshUntilNanos < 0;
+        }
+
+        boolean hasETag() {
+            return response.getHeaders().getETag() != null;
+        }
+    }
+
+    /**
+     * Drops a response once its TTL has passed, or after `staleRetention` more if it can still be revalidated.
+     */
+    private record CachedResponseExpiry(Duration staleRetention) implements Expiry<Key, CachedResponse> {
+        @Override
+        public long expireAfterCreate(Key key, CachedResponse value, long currentTime) {
+            long untilStale = Math.max(0, value.freshUntilNanos() - System.nanoTime());
+            return value.hasETag() ? untilStale + staleRetention.toNanos() : untilStale;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
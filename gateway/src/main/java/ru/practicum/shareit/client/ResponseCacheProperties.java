@@ -0,0 +1,43 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Represents the settings of the gateway response cache for single-resource GET requests.
+ *
+ * It uses the `@ConfigurationProperties` annotation to bind the `shareit-server.response-cache` properties.
+ * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
+ * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
+ *
+ * The `enabled` field represents whether responses are cached at all.
+ * The `maximumSize` field represents the maximum number of responses kept per route.
+ * The `staleRetention` field represents how long a response with an ETag is kept after it went stale,
+ * so it can be revalidated with `If-None-Match` instead of being downloaded again.
+ * The `itemsTtl` field represents how long a cached `GET /items/{id}` response is served without asking the server.
+ * The `usersTtl` field represents how long a cached `GET /users/{id}` response is served without asking the server.
+ * The `requestsTtl` field represents how long a cached `GET /requests/{id}` response is served without asking the server.
+ */
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "shareit-server.response-cache")
+public class ResponseCacheProperties {
+    boolean enabled = true;
+    long maximumSize = 10_000;
+    Duration staleRetention = Duration.ofMinutes(10);
+    Duration itemsTtl = Duration.ofSeconds(5);
+    Duration usersTtl = Duration.ofSeconds(30);
+    Duration requestsTtl = Duration.ofSeconds(10);
+
+    public Duration getTtl(CachedRoute route) {
+        return switch (route) {
+            case ITEMS -> itemsTtl;
+            case USERS -> usersTtl;
+            case REQUESTS -> requestsTtl;
+        };
+    }
+}
@@ -5,10 +5,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CachedRoute;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
@@ -20,43 +22,71 @@ import java.util.Map;
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> findByUserId(long userId) {
         return get("", userId, null);
     }
 
-    public ResponseEntity<Object> getItemById(long itemId) {
-        return get("/" + itemId);
+    public ResponseEntity<Object> getItemById(long itemId, Long userId) {
+        return responseCache.get(CachedRoute.ITEMS, itemId, userId,
+                etag -> getIfNoneMatch("/" + itemId, userId, etag));
     }
 
     public ResponseEntity<Object> createItem(long userId, ItemDto itemDto) {
-        return post("", userId, itemDto);
+        ResponseEntity<Object> response = post("", userId, itemDto);
+        if (itemDto.getRequestId() != null) {
+            responseCache.invalidate(CachedRoute.REQUESTS, itemDto.getRequestId());
+        }
+        return response;
     }
 
     public ResponseEntity<Object> updateItem(long itemId, long userId, ItemUpdateDto itemDto) {
-        return patch("/" + itemId, userId, itemDto);
+        ResponseEntity<Object> response = patch("/" + itemId, userId, itemDto);
+        invalidateItem(itemId);
+        return response;
     }
 
     public ResponseEntity<Object> deleteItem(long userId, long itemId) {
-        return delete("/" + itemId, userId);
+        ResponseEntity<Object> response = delete("/" + itemId, userId);
+        invalidateItem(itemId);
+        return response;
     }
 
-    public ResponseEntity<Object> searchItems(String text) {
-        Map<String, Object> parameters = Map.of("text", text);
-        return get("/search?text={text}", null, parameters);
+    public ResponseEntity<Object> searchItems(String text, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
     }
 
     public ResponseEntity<Object> addComment(long itemId, long userId, CommentDto commentDto) {
         log.info("Adding comment to item with id {}", itemId);
-        return post("/" + itemId + "/comment", userId, commentDto);
+        ResponseEntity<Object> response = post("/" + itemId + "/comment", userId, commentDto);
+        invalidateItem(itemId);
+        return response;
+    }
+
+    /**
+     * Request responses embed the items offered for them, and the gateway does not know which request an
+     * existing item belongs to, so every cached request is dropped along with the item.
+     */
+    private void invalidateItem(long itemId) {
+        responseCache.invalidate(CachedRoute.ITEMS, itemId);
+        responseCache.invalidateAll(CachedRoute.REQUESTS);
     }
 }
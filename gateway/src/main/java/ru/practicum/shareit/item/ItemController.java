@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -38,9 +39,11 @@ public class ItemController {
     }
 
     @GetMapping(PathConstants.ITEM_ID_PATH)
-    public ResponseEntity<Object> getItem(@PathVariable("item-id") @Positive long itemId) {
-        log.info("Sending GET request for item with id: {}", itemId);
-        return itemClient.getItemById(itemId);
+    public ResponseEntity<Object> getItem(@RequestHeader(value = HeaderConstants.USER_ID_HEADER, required = false)
+                                          @Positive Long userId,
+                                          @PathVariable("item-id") @Positive long itemId) {
+        log.info("Sending GET request for item with id: {} for user with id: {}", itemId, userId);
+        return itemClient.getItemById(itemId, userId);
     }
 
     @PostMapping
@@ -65,9 +68,11 @@ public class ItemController {
     }
 
     @GetMapping(PathConstants.SEARCH_PATH)
-    public ResponseEntity<Object> searchItems(@RequestParam("text") @NotNull String text) {
-        log.info("Sending GET request for items with text: {}", text);
-        return itemClient.searchItems(text);
+    public ResponseEntity<Object> searchItems(@RequestParam("text") @NotNull String text,
+                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+        log.info("Sending GET request for items with text: {}, from={}, size={}", text, from, size);
+        return itemClient.searchItems(text, from, size);
     }
 
     @PostMapping(PathConstants.ITEM_ID_PATH + PathConstants.COMMENT_PATH)
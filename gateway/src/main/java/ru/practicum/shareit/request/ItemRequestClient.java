@@ -4,28 +4,37 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CachedRoute;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import java.util.Map;
+
 @Service
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> getRequestById(long requestId) {
-        return get("/" + requestId);
+        return responseCache.get(CachedRoute.REQUESTS, requestId, null,
+                etag -> getIfNoneMatch("/" + requestId, null, etag));
     }
 
     public ResponseEntity<Object> findByUserId(long userId) {
@@ -37,14 +46,31 @@ public class ItemRequestClient extends BaseClient {
     }
 
     public ResponseEntity<Object> updateRequest(long requestId, long userId, ItemRequestDto requestDto) {
-        return patch("/" + requestId, userId, requestDto);
+        ResponseEntity<Object> response = patch("/" + requestId, userId, requestDto);
+        responseCache.invalidate(CachedRoute.REQUESTS, requestId);
+        return response;
     }
 
     public ResponseEntity<Object> deleteRequest(long requestId, long userId) {
-        return delete("/" + requestId, userId);
+        ResponseEntity<Object> response = delete("/" + requestId, userId);
+        responseCache.invalidate(CachedRoute.REQUESTS, requestId);
+        return response;
     }
 
-    public ResponseEntity<Object> getAllRequests(long userId) {
-        return get("/all", userId);
+    public ResponseEntity<Object> getAllRequests(long userId, Integer from, Integer size, String cursor) {
+        if (cursor == null) {
+            Map<String, Object> parameters = Map.of(
+                    "from", from,
+                    "size", size
+            );
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "cursor", cursor
+        );
+        return get("/all?from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.util.HeaderConstants;
 import ru.practicum.shareit.util.PathConstants;
@@ -62,8 +64,12 @@ public class ItemRequestController {
     }
 
     @GetMapping(PathConstants.REQUESTS_ALL_PATH)
-    public ResponseEntity<Object> getAllRequests(@RequestHeader(HeaderConstants.USER_ID_HEADER) @Positive long userId) {
-        log.info("Sending GET request for all item requests from other users for user with id: {}", userId);
-        return requestClient.getAllRequests(userId);
+    public ResponseEntity<Object> getAllRequests(@RequestHeader(HeaderConstants.USER_ID_HEADER) @Positive long userId,
+                                                 @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                 @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                 @RequestParam(name = "cursor", required = false) String cursor) {
+        log.info("Sending GET request for item requests from other users for user with id: {}, from={}, size={}, " +
+                "cursor={}", userId, from, size, cursor);
+        return requestClient.getAllRequests(userId, from, size, cursor);
     }
 }
@@ -4,37 +4,67 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.CachedRoute;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
 @Slf4j
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
+        this.responseCache = responseCache;
+    }
+
+    public ResponseEntity<Object> getUsers(Integer size, String cursor) {
+        log.debug("Sending GET request for users, size={}, cursor={}", size, cursor);
+        if (cursor == null) {
+            return get("?size={size}", Map.of("size", size));
+        }
+        return get("?size={size}&cursor={cursor}", Map.of("size", size, "cursor", cursor));
+    }
+
+    public void streamUsers(OutputStream target) {
+        log.debug("Sending GET request to stream all users");
+        getStream("?stream=true", MediaType.APPLICATION_JSON, target);
+    }
+
+    public void exportUsers(OutputStream target) {
+        log.debug("Sending GET request to export all users");
+        getStream("/export", MediaType.APPLICATION_NDJSON, target);
     }
 
-    public ResponseEntity<Object> getUsers() {
-        log.debug("Sending GET request for all users");
-        return get("");
+    public ResponseEntity<Object> importUsers(InputStream ndjson) {
+        log.debug("Sending POST request to import users");
+        return postStream("/import", MediaType.APPLICATION_NDJSON, ndjson);
     }
 
     public ResponseEntity<Object> getUserById(long userId) {
         log.debug("Sending GET request for user with id: {}", userId);
-        return get("/" + userId);
+        return responseCache.get(CachedRoute.USERS, userId, null,
+                etag -> getIfNoneMatch("/" + userId, null, etag));
     }
 
     public ResponseEntity<Object> createUser(UserDto userDto) {
@@ -44,11 +74,17 @@ public class UserClient extends BaseClient {
 
     public ResponseEntity<Object> updateUser(long userId, UserUpdateDto userDto) {
         log.debug("Sending PATCH request to update user with id: {}", userId);
-        return patch("/" + userId, userDto);
+        ResponseEntity<Object> response = patch("/" + userId, userDto);
+        responseCache.invalidate(CachedRoute.USERS, userId);
+        return response;
     }
 
     public ResponseEntity<Object> deleteUser(long userId) {
         log.debug("Sending DELETE request for user with id: {}", userId);
-        return delete("/" + userId);
+        ResponseEntity<Object> response = delete("/" + userId);
+        responseCache.invalidate(CachedRoute.USERS, userId);
+        responseCache.invalidateAll(CachedRoute.ITEMS);
+        responseCache.invalidateAll(CachedRoute.REQUESTS);
+        return response;
     }
 }
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -14,10 +15,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserUpdateDto;
 import ru.practicum.shareit.util.PathConstants;
 
+import java.io.InputStream;
+
 @Controller
 @RequestMapping(path = PathConstants.USERS_PATH)
 @RequiredArgsConstructor
@@ -27,9 +32,32 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getUsers() {
-        log.info("Sending GET request for all users");
-        return userClient.getUsers();
+    public ResponseEntity<Object> getUsers(@Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                           @RequestParam(name = "cursor", required = false) String cursor) {
+        log.info("Sending GET request for users, size={}, cursor={}", size, cursor);
+        return userClient.getUsers(size, cursor);
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        log.info("Sending GET request to stream all users");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userClient::streamUsers);
+    }
+
+    @GetMapping(path = PathConstants.USERS_EXPORT_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("Sending GET request to export all users");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(userClient::exportUsers);
+    }
+
+    @PostMapping(path = PathConstants.USERS_IMPORT_PATH, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Object> importUsers(InputStream ndjson) {
+        log.info("Sending POST request to import users");
+        return userClient.importUsers(ndjson);
     }
 
     @GetMapping(PathConstants.USER_ID_PATH)
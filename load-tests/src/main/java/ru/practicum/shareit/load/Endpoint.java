@@ -0,0 +1,37 @@
+package ru.practicum.shareit.load;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One entry of a scenario: the endpoint name used in the report, its share of the requests and
+ * the factory of the next request to send to it.
+ *
+ * The name is the HTTP method followed by the path template assembled from `PathConstants`,
+ * so results of different scenarios line up per endpoint.
+ */
+record Endpoint(String name, int weight, Supplier<HttpRequest> request) {
+
+    /**
+     * Orders endpoint indexes by smooth weighted round-robin, so an endpoint with weight 3 of 4
+     * is interleaved with the others instead of being sent three times in a row.
+     */
+    static int[] schedule(List<Endpoint> endpoints) {
+        int total = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        int[] current = new int[endpoints.size()];
+        int[] schedule = new int[total];
+        for (int slot = 0; slot < total; slot++) {
+            int selected = 0;
+            for (int i = 0; i < current.length; i++) {
+                current[i] += endpoints.get(i).weight();
+                if (current[i] > current[selected]) {
+                    selected = i;
+                }
+            }
+            current[selected] -= total;
+            schedule[slot] = selected;
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.load;
+
+import java.util.List;
+
+/**
+ * Identifiers of the data seeded before a run.
+ *
+ * The seeding follows the flow of the Postman collection in `postman/`: users are created first, a booker
+ * posts an item request, owners add items (one of them answering the request) and a booker books an item
+ * that its owner approves.
+ *
+ * The `owners` field represents the users owning all seeded items.
+ * The `bookers` field represents the users that create bookings and requests.
+ * The `items` field represents the seeded items, listed owner by owner.
+ * The `requestId` field represents the item request answered by the first item.
+ * The `bookingId` field represents an approved booking of the first item by the first booker.
+ */
+record Fixture(List<Long> owners, List<Long> bookers, List<Long> items, long requestId, long bookingId) {
+    static final List<String> ITEM_NAMES = List.of("Drill", "Ladder", "Tent", "Bicycle", "Projector",
+            "Kayak", "Camera", "Saw", "Guitar", "Grill");
+
+    long owner() {
+        return owners.getFirst();
+    }
+
+    long booker() {
+        return bookers.getFirst();
+    }
+}
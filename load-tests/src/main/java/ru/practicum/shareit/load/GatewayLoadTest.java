@@ -0,0 +1,348 @@
+package ru.practicum.shareit.load;
+
+import ru.practicum.shareit.util.HeaderConstants;
+import ru.practicum.shareit.util.PathConstants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load driver for the gateway.
+ *
+ * Seeds owners, bookers, items, an item request and a booking, then keeps `concurrency` virtual-thread
+ * workers sending the requests of the chosen {@link Scenario} back to back for the configured duration and
+ * prints throughput and latency percentiles per endpoint as a single JSON line. Run it once per configuration
+ * under test and compare the lines.
+ *
+ * Options: `--target=http://localhost:8080 --scenario=reads --concurrency=64 --warmup=5 --duration=30
+ * --owners=5 --items-per-owner=10 --bookers=10 --label=run`.
+ */
+public class GatewayLoadTest {
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final List<String> OWNER_STATES = List.of("ALL", "WAITING", "FUTURE", "CURRENT");
+    private static final Duration BOOKING_LENGTH = Duration.ofHours(1);
+
+    private final HttpClient client;
+    private final URI target;
+
+    GatewayLoadTest(HttpClient client, URI target) {
+        this.client = client;
+        this.target = target;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        URI target = URI.create(options.getOrDefault("target", "http://localhost:8080"));
+        Scenario scenario = Scenario.of(options.getOrDefault("scenario", "reads"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        int owners = Integer.parseInt(options.getOrDefault("owners", "5"));
+        int itemsPerOwner = Integer.parseInt(options.getOrDefault("items-per-owner", "10"));
+        int bookers = Integer.parseInt(options.getOrDefault("bookers", "10"));
+        String label = options.getOrDefault("label", "run");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            GatewayLoadTest loadTest = new GatewayLoadTest(client, target);
+            Fixture fixture = loadTest.seed(owners, itemsPerOwner, bookers);
+            List<Endpoint> endpoints = loadTest.endpoints(scenario, fixture);
+
+            loadTest.run(endpoints, concurrency, warmup);
+            Result result = loadTest.run(endpoints, concurrency, duration);
+            System.out.println(result.toJson(label, scenario, concurrency, duration));
+        }
+    }
+
+    Fixture seed(int owners, int itemsPerOwner, int bookers) throws IOException, InterruptedException {
+        String run = Long.toString(System.nanoTime(), 36);
+        List<Long> ownerIds = new ArrayList<>();
+        for (int i = 0; i < owners; i++) {
+            ownerIds.add(create(PathConstants.USERS_PATH, null,
+                    "{\"name\":\"Owner " + i + "\",\"email\":\"owner-" + i + "-" + run + "@example.com\"}"));
+        }
+        List<Long> bookerIds = new ArrayList<>();
+        for (int i = 0; i < bookers; i++) {
+            bookerIds.add(create(PathConstants.USERS_PATH, null,
+                    "{\"name\":\"Booker " + i + "\",\"email\":\"booker-" + i + "-" + run + "@example.com\"}"));
+        }
+
+        long requestId = create(PathConstants.REQUESTS_PATH, bookerIds.getFirst(),
+                "{\"description\":\"Need a cordless drill for the weekend\"}");
+
+        List<Long> itemIds = new ArrayList<>();
+        for (long ownerId : ownerIds) {
+            for (int i = 0; i < itemsPerOwner; i++) {
+                String name = Fixture.ITEM_NAMES.get(itemIds.size() % Fixture.ITEM_NAMES.size());
+                String answer = itemIds.isEmpty() ? ",\"requestId\":" + requestId : "";
+                itemIds.add(create(PathConstants.ITEMS_PATH, ownerId, "{\"name\":\"" + name + " " + i
+                        + "\",\"description\":\"" + name + " for rent, well kept\",\"available\":true" + answer + "}"));
+            }
+        }
+
+        LocalDateTime start = LocalDateTime.now().plusHours(12).truncatedTo(ChronoUnit.SECONDS);
+        long bookingId = create(PathConstants.BOOKINGS_PATH, bookerIds.getFirst(),
+                bookingBody(itemIds.getFirst(), start));
+        send(HttpRequest.newBuilder(target.resolve(PathConstants.BOOKINGS_PATH + "/" + bookingId + "?approved=true"))
+                .header(HeaderConstants.USER_ID_HEADER, String.valueOf(ownerIds.getFirst()))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+
+        return new Fixture(List.copyOf(ownerIds), List.copyOf(bookerIds), List.copyOf(itemIds), requestId, bookingId);
+    }
+
+    List<Endpoint> endpoints(Scenario scenario, Fixture fixture) {
+        return switch (scenario) {
+            case READS -> reads(fixture);
+            case SEARCH -> search(fixture);
+            case BOOKINGS -> bookings(fixture);
+            case DASHBOARD -> dashboard(fixture);
+            case MIXED -> {
+                List<Endpoint> endpoints = new ArrayList<>(search(fixture));
+                endpoints.addAll(bookings(fixture));
+                endpoints.addAll(dashboard(fixture));
+                yield endpoints;
+            }
+        };
+    }
+
+    private List<Endpoint> reads(Fixture fixture) {
+        long userId = fixture.owner();
+        long itemId = fixture.items().getFirst();
+        return List.of(
+                fixed("GET " + PathConstants.USERS_PATH + PathConstants.USER_ID_PATH, 1,
+                        get(PathConstants.USERS_PATH + "/" + userId, null)),
+                fixed("GET " + PathConstants.ITEMS_PATH + PathConstants.ITEM_ID_PATH, 1,
+                        get(PathConstants.ITEMS_PATH + "/" + itemId, userId)),
+                fixed("GET " + PathConstants.ITEMS_PATH, 1,
+                        get(PathConstants.ITEMS_PATH, userId)),
+                fixed("GET " + PathConstants.ITEMS_PATH + PathConstants.SEARCH_PATH, 1,
+                        get(PathConstants.ITEMS_PATH + PathConstants.SEARCH_PATH + "?text=drill", userId)),
+                fixed("GET " + PathConstants.BOOKINGS_PATH + PathConstants.OWNER_PATH, 1,
+                        get(PathConstants.BOOKINGS_PATH + PathConstants.OWNER_PATH + "?state=ALL", userId)));
+    }
+
+    private List<Endpoint> search(Fixture fixture) {
+        return List.of(
+                cycled("GET " + PathConstants.ITEMS_PATH + PathConstants.SEARCH_PATH, 7, n -> get(
+                        PathConstants.ITEMS_PATH + PathConstants.SEARCH_PATH + "?text="
+                                + pick(Fixture.ITEM_NAMES, n).toLowerCase(Locale.ROOT),
+                        pick(fixture.bookers(), n))),
+                cycled("GET " + PathConstants.ITEMS_PATH + PathConstants.ITEM_ID_PATH, 3, n -> get(
+                        PathConstants.ITEMS_PATH + "/" + pick(fixture.items(), n), pick(fixture.bookers(), n))));
+    }
+
+    private List<Endpoint> bookings(Fixture fixture) {
+        LocalDateTime firstStart = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        int items = fixture.items().size();
+        return List.of(
+                // Every booking takes the next free one-hour slot of the next item, so none of them conflict.
+                cycled("POST " + PathConstants.BOOKINGS_PATH, 6, n -> post(PathConstants.BOOKINGS_PATH,
+                        pick(fixture.bookers(), n), bookingBody(pick(fixture.items(), n),
+                                firstStart.plus(BOOKING_LENGTH.multipliedBy(2 * (n / items)))))),
+                cycled("GET " + PathConstants.BOOKINGS_PATH, 3, n -> get(
+                        PathConstants.BOOKINGS_PATH + "?state=WAITING", pick(fixture.bookers(), n))),
+                fixed("GET " + PathConstants.BOOKINGS_PATH + PathConstants.BOOKING_ID_PATH, 1,
+                        get(PathConstants.BOOKINGS_PATH + "/" + fixture.bookingId(), fixture.booker())));
+    }
+
+    private List<Endpoint> dashboard(Fixture fixture) {
+        return List.of(
+                cycled("GET " + PathConstants.ITEMS_PATH, 4, n -> get(
+                        PathConstants.ITEMS_PATH, pick(fixture.owners(), n))),
+                cycled("GET " + PathConstants.BOOKINGS_PATH + PathConstants.OWNER_PATH, 4, n -> get(
+                        PathConstants.BOOKINGS_PATH + PathConstants.OWNER_PATH + "?state=" + pick(OWNER_STATES, n),
+                        pick(fixture.owners(), n))),
+                cycled("GET " + PathConstants.REQUESTS_PATH + PathConstants.REQUESTS_ALL_PATH, 1, n -> get(
+                        PathConstants.REQUESTS_PATH + PathConstants.REQUESTS_ALL_PATH, pick(fixture.owners(), n))),
+                fixed("GET " + PathConstants.REQUESTS_PATH + PathConstants.REQUEST_ID_PATH, 1,
+                        get(PathConstants.REQUESTS_PATH + "/" + fixture.requestId(), fixture.owner())));
+    }
+
+    Result run(List<Endpoint> endpoints, int concurrency, Duration duration) throws Exception {
+        int[] schedule = Endpoint.schedule(endpoints);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Worker>> futures = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                futures.add(workers.submit(() -> new Worker(endpoints.size()).run(endpoints, schedule, offset, deadline)));
+            }
+        }
+
+        Result result = new Result(endpoints.stream().map(Endpoint::name).toList());
+        for (Future<Worker> future : futures) {
+            result.merge(future.get());
+        }
+        return result;
+    }
+
+    private long create(String path, Long userId, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post(path, userId, body));
+        Matcher matcher = ID.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Seeding " + path + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return send(request.build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Seeding " + request.uri() + " failed: " + response.statusCode() + " "
+                    + response.body());
+        }
+        return response;
+    }
+
+    private HttpRequest get(String pathAndQuery, Long userId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(pathAndQuery)).GET();
+        if (userId != null) {
+            request.header(HeaderConstants.USER_ID_HEADER, String.valueOf(userId));
+        }
+        return request.build();
+    }
+
+    private HttpRequest post(String path, Long userId, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (userId != null) {
+            request.header(HeaderConstants.USER_ID_HEADER, String.valueOf(userId));
+        }
+        return request.build();
+    }
+
+    private static String bookingBody(long itemId, LocalDateTime start) {
+        return "{\"itemId\":" + itemId + ",\"start\":\"" + start + "\",\"end\":\"" + start.plus(BOOKING_LENGTH) + "\"}";
+    }
+
+    private static Endpoint fixed(String name, int weight, HttpRequest request) {
+        return new Endpoint(name, weight, () -> request);
+    }
+
+    private static Endpoint cycled(String name, int weight, LongFunction<HttpRequest> request) {
+        AtomicLong sequence = new AtomicLong();
+        return new Endpoint(name, weight, () -> request.apply(sequence.getAndIncrement()));
+    }
+
+    private static <T> T pick(List<T> values, long sequence) {
+        return values.get((int) (sequence % values.size()));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private final class Worker {
+        private final LatencySamples[] samples;
+        private final long[] errors;
+
+        private Worker(int endpoints) {
+            samples = new LatencySamples[endpoints];
+            errors = new long[endpoints];
+            for (int i = 0; i < endpoints; i++) {
+                samples[i] = new LatencySamples();
+            }
+        }
+
+        private Worker run(List<Endpoint> endpoints, int[] schedule, int offset, long deadline) {
+            for (int i = offset; System.nanoTime() < deadline; i++) {
+                int endpoint = schedule[i % schedule.length];
+                HttpRequest request = endpoints.get(endpoint).request().get();
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        errors[endpoint]++;
+                    }
+                } catch (IOException e) {
+                    errors[endpoint]++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                samples[endpoint].add(System.nanoTime() - start);
+            }
+            return this;
+        }
+    }
+
+    private static final class Result {
+        private final List<String> names;
+        private final LatencySamples[] samples;
+        private final long[] errors;
+        private final LatencySamples overall = new LatencySamples();
+
+        private Result(List<String> names) {
+            this.names = names;
+            samples = new LatencySamples[names.size()];
+            errors = new long[names.size()];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = new LatencySamples();
+            }
+        }
+
+        private void merge(Worker worker) {
+            for (int i = 0; i < samples.length; i++) {
+                samples[i].addAll(worker.samples[i]);
+                overall.addAll(worker.samples[i]);
+                errors[i] += worker.errors[i];
+            }
+        }
+
+        private String toJson(String label, Scenario scenario, int concurrency, Duration duration) {
+            StringBuilder json = new StringBuilder();
+            json.append(String.format(Locale.ROOT,
+                    "{\"label\":\"%s\",\"scenario\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,"
+                            + "\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,\"overall\":%s,\"endpoints\":{",
+                    label, scenario.label(), concurrency, duration.toSeconds(), overall.size(), Arrays.stream(errors).sum(),
+                    overall.size() / (double) duration.toSeconds(),
+                    percentiles(overall, Arrays.stream(errors).sum(), duration)));
+            for (int i = 0; i < names.size(); i++) {
+                json.append(i == 0 ? "" : ",").append('"').append(names.get(i)).append("\":")
+                        .append(percentiles(samples[i], errors[i], duration));
+            }
+            return json.append("}}").toString();
+        }
+
+        private static String percentiles(LatencySamples samples, long errors, Duration duration) {
+            return String.format(Locale.ROOT,
+                    "{\"count\":%d,\"errors\":%d,\"throughput\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f}",
+                    samples.size(), errors, samples.size() / (double) duration.toSeconds(), samples.percentileMillis(50),
+                    samples.percentileMillis(99), samples.percentileMillis(99.9));
+        }
+    }
+}
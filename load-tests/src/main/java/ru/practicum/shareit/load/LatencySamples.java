@@ -0,0 +1,41 @@
+package ru.practicum.shareit.load;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of request latencies in nanoseconds, owned by a single worker until it is merged.
+ */
+class LatencySamples {
+    private long[] values = new long[1024];
+    private int size;
+
+    void add(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    void addAll(LatencySamples other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.values[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the given percentile in milliseconds using the nearest-rank method.
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.load;
+
+import java.util.Locale;
+
+/**
+ * Request mixes the driver can replay against the gateway.
+ *
+ * Every scenario is a weighted list of endpoints built by `GatewayLoadTest.endpoints` on top of the seeded
+ * {@link Fixture}; workers walk the list in smooth weighted round-robin order, so a run is deterministic
+ * apart from the timing of the gateway itself.
+ */
+enum Scenario {
+    /**
+     * Single-resource and owner reads only, the mix used for the thread model comparison in the README.
+     */
+    READS,
+    /**
+     * Guest browsing: mostly item search with varying terms, then opening the found items.
+     */
+    SEARCH,
+    /**
+     * Booking-creation bursts: bookers create bookings back to back and check their waiting list.
+     */
+    BOOKINGS,
+    /**
+     * Owner dashboards: own items with bookings and comments, incoming bookings by state and open requests.
+     */
+    DASHBOARD,
+    /**
+     * All of the above in one run, weighted towards reads.
+     */
+    MIXED;
+
+    static Scenario of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
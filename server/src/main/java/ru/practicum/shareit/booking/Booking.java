@@ -9,7 +9,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Data;
@@ -35,6 +37,8 @@ import java.time.LocalDateTime;
  * The `item` field represents the item being booked and must not be null.
  * The `booker` field represents the user who booked the item and must not be null.
  * The `status` field represents the current status of the booking and must not be null.
+ * The `version` field represents the optimistic lock version of the booking, incremented on every update
+ * and used to build the `ETag` of its representation.
  */
 @Entity
 @Data
@@ -42,7 +46,8 @@ import java.time.LocalDateTime;
 @Table(name = "bookings")
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     Long id;
 
     @NotNull
@@ -66,4 +71,7 @@ public class Booking {
     @NotNull
     @Enumerated(EnumType.STRING)
     BookingStatus status;
-}
\ No newline at end of file
+
+    @Version
+    Long version;
+}
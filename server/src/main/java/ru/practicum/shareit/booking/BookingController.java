@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,10 +16,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.enums.BookingState;
+import ru.practicum.shareit.util.EntityTags;
 import ru.practicum.shareit.util.HeaderConstants;
 import ru.practicum.shareit.util.PathConstants;
 
 import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -28,28 +31,41 @@ public class BookingController {
     private final BookingServiceImpl bookingService;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public Collection<BookingDto> getBookingsByBookerId(
+    public ResponseEntity<Collection<BookingDto>> getBookingsByBookerId(
             @RequestHeader(HeaderConstants.USER_ID_HEADER) Long bookerId,
-            @RequestParam(defaultValue = "ALL") String state) {
-        log.info("Received GET request for bookings for booker with id: {} and state: {}", bookerId, state);
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        log.info("Received GET request for bookings for booker with id: {}, state: {}, from: {}, size: {}, cursor: {}",
+                bookerId, state, from, size, cursor);
         BookingState bookingState = BookingState.valueOf(state.toUpperCase());
-        return bookingService.getBookingsByBookerIdAndState(bookerId, bookingState);
+        List<BookingDto> bookings = List.copyOf(bookingService.getBookingsByBookerIdAndState(
+                bookerId, bookingState, BookingCursor.decode(cursor), from, size));
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping(PathConstants.OWNER_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public Collection<BookingDto> getBookingsByOwnerId(@RequestHeader(HeaderConstants.USER_ID_HEADER) Long ownerId) {
-        log.info("Received GET request for bookings for owner with id: {}", ownerId);
-        return bookingService.getBookingsByOwnerId(ownerId);
+    public ResponseEntity<Collection<BookingDto>> getBookingsByOwnerId(
+            @RequestHeader(HeaderConstants.USER_ID_HEADER) Long ownerId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        log.info("Received GET request for bookings for owner with id: {}, state: {}, from: {}, size: {}, cursor: {}",
+                ownerId, state, from, size, cursor);
+        BookingState bookingState = BookingState.valueOf(state.toUpperCase());
+        List<BookingDto> bookings = List.copyOf(bookingService.getBookingsByOwnerIdAndState(
+                ownerId, bookingState, BookingCursor.decode(cursor), from, size));
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping(PathConstants.BOOKING_ID_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public BookingDto getBookingById(@RequestHeader(HeaderConstants.USER_ID_HEADER) Long userId,
-                                     @PathVariable("booking-id") Long bookingId) {
+    public ResponseEntity<BookingDto> getBookingById(@RequestHeader(HeaderConstants.USER_ID_HEADER) Long userId,
+                                                     @PathVariable("booking-id") Long bookingId) {
         log.info("Received GET request for booking with id: {} for user with id: {}", bookingId, userId);
-        return bookingService.getBookingById(bookingId, userId);
+        BookingDto booking = bookingService.getBookingById(bookingId, userId);
+        return ResponseEntity.ok().eTag(EntityTags.of(booking)).body(booking);
     }
 
     @PostMapping
@@ -68,4 +84,12 @@ public class BookingController {
         log.info("Received PATCH request for booking with id: {} by user with id: {}", bookingId, ownerId);
         return bookingService.approveBooking(bookingId, ownerId, approved);
     }
+
+    private static ResponseEntity<Collection<BookingDto>> withNextCursor(List<BookingDto> bookings, int size) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (bookings.size() == size) {
+            response.header(HeaderConstants.NEXT_CURSOR_HEADER, BookingCursor.after(bookings.getLast()).encode());
+        }
+        return response.body(bookings);
+    }
 }
\ No newline at end of file
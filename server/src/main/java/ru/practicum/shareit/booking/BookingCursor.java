@@ -0,0 +1,46 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Represents a keyset position in a booking list ordered by start time and id, both descending.
+ *
+ * The cursor is handed to clients as an opaque URL-safe string and points at the last booking of a page,
+ * so the next page is read with `(start_time, id) < (startTime, id)` instead of skipping rows with an offset.
+ *
+ * The `startTime` field represents the start time of the last booking returned.
+ * The `id` field represents the unique identifier of the last booking returned.
+ */
+public record BookingCursor(LocalDateTime startTime, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public static BookingCursor after(BookingDto booking) {
+        return new BookingCursor(booking.getStartTime(), booking.getId());
+    }
+
+    public static BookingCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new BookingCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
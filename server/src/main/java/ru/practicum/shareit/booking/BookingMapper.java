@@ -3,24 +3,59 @@ package ru.practicum.shareit.booking;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserMapper;
 
+import java.util.Collection;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BookingMapper {
     public static BookingDto convertToDto(Booking booking) {
+        BookingDto bookingDto = convertFields(booking);
+        bookingDto.setItem(ItemMapper.convertToDto(booking.getItem()));
+        return bookingDto;
+    }
+
+    /**
+     * Maps a booking with the comments of its item loaded separately, e.g. in one batch for a whole page
+     * of bookings, so the item's lazy comment collection is not touched.
+     */
+    public static BookingDto convertToDto(Booking booking, Collection<Comment> itemComments) {
+        BookingDto bookingDto = convertFields(booking);
+        bookingDto.setItem(ItemMapper.convertToDto(booking.getItem(), null, null, itemComments));
+        return bookingDto;
+    }
+
+    private static BookingDto convertFields(Booking booking) {
         BookingDto bookingDto = new BookingDto();
         bookingDto.setId(booking.getId());
         bookingDto.setStartTime(booking.getStartTime());
         bookingDto.setEndTime(booking.getEndTime());
         bookingDto.setStatus(booking.getStatus());
         bookingDto.setBooker(UserMapper.convertToDto(booking.getBooker()));
-        bookingDto.setItem(ItemMapper.convertToDto(booking.getItem()));
+        bookingDto.setVersion(booking.getVersion());
         return bookingDto;
     }
 
+    public static BookingShortDto convertToShortDto(ItemBookingView view) {
+        return new BookingShortDto(view.getId(), view.getBookerId(), view.getStartTime(), view.getEndTime());
+    }
+
+    public static BookingShortDto convertToShortDto(BookingWindow window) {
+        return new BookingShortDto(window.id(), window.bookerId(), window.start(), window.end());
+    }
+
+    public static BookingWindow convertToWindow(Booking booking) {
+        return new BookingWindow(booking.getId(), booking.getBooker().getUserId(),
+                booking.getStartTime(), booking.getEndTime(), booking.getStatus());
+    }
+
     public static Booking convertToEntity(BookingDto bookingDto, Item item, User booker) {
         Booking booking = new Booking();
         booking.setId(bookingDto.getId());
@@ -1,36 +1,183 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
 import java.util.List;
 
+/**
+ * Booking pages come in pairs of queries: one for the first page and one that continues after a keyset cursor.
+ * Keeping the cursor predicate out of the first-page query, rather than making it optional with
+ * `:cursorStart IS NULL OR ...`, lets PostgreSQL seek the `(start_time DESC, id DESC)` indexes with a generic
+ * plan as well. `AFTER_CURSOR` repeats `startTime <= :cursorStart` as a plain range bound for the same reason.
+ */
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    Collection<Booking> findByBooker_UserId(Long bookerId);
+    String BOOKER_PAGE_SELECT = "SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker " +
+            "WHERE b.booker.userId = :bookerId ";
 
-    Collection<Booking> findByItem_OwnerId(Long ownerId);
+    String OWNER_PAGE_SELECT = "SELECT b FROM Booking b JOIN FETCH b.item i JOIN FETCH b.booker " +
+            "WHERE i.ownerId = :ownerId ";
 
-    Collection<Booking> findByBooker_UserIdAndStatus(Long bookerId, BookingStatus status);
+    String AFTER_CURSOR = "AND b.startTime <= :cursorStart " +
+            "AND (b.startTime < :cursorStart OR b.id < :cursorId) ";
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.userId = :bookerId AND b.startTime <= :now AND b.endTime >= :now ORDER BY b.startTime DESC")
-    Collection<Booking> findCurrentBookingsByBookerId(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now);
+    String PAGE_ORDER = "ORDER BY b.startTime DESC, b.id DESC";
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.userId = :bookerId AND b.endTime < :now ORDER BY b.startTime DESC")
-    Collection<Booking> findPastBookingsByBookerId(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now);
+    @Query(BOOKER_PAGE_SELECT + PAGE_ORDER)
+    List<Booking> findBookingsByBookerId(@Param("bookerId") Long bookerId,
+                                         Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.userId = :bookerId AND b.startTime > :now ORDER BY b.startTime DESC")
-    Collection<Booking> findFutureBookingsByBookerId(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now);
+    @Query(BOOKER_PAGE_SELECT + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findBookingsByBookerIdAfter(@Param("bookerId") Long bookerId,
+                                              @Param("cursorStart") LocalDateTime cursorStart,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.item.itemId = :itemId AND b.endTime < CURRENT_TIMESTAMP ORDER BY b.endTime DESC")
-    Booking findLastBookingForItem(@Param("itemId") Long itemId);
+    @Query(BOOKER_PAGE_SELECT + "AND b.status = :status " + PAGE_ORDER)
+    List<Booking> findBookingsByBookerIdAndStatus(@Param("bookerId") Long bookerId,
+                                                  @Param("status") BookingStatus status,
+                                                  Pageable pageable);
 
-    @Query(value = "SELECT * FROM bookings b WHERE b.item_id = :itemId AND b.start_time > CURRENT_TIMESTAMP ORDER BY b.start_time ASC LIMIT 1", nativeQuery = true)
-    Booking findNextBookingForItem(@Param("itemId") Long itemId);
+    @Query(BOOKER_PAGE_SELECT + "AND b.status = :status " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findBookingsByBookerIdAndStatusAfter(@Param("bookerId") Long bookerId,
+                                                       @Param("status") BookingStatus status,
+                                                       @Param("cursorStart") LocalDateTime cursorStart,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.startTime <= :now AND b.endTime >= :now " + PAGE_ORDER)
+    List<Booking> findCurrentBookingsByBookerId(@Param("bookerId") Long bookerId,
+                                                @Param("now") LocalDateTime now,
+                                                Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.startTime <= :now AND b.endTime >= :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findCurrentBookingsByBookerIdAfter(@Param("bookerId") Long bookerId,
+                                                     @Param("now") LocalDateTime now,
+                                                     @Param("cursorStart") LocalDateTime cursorStart,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.endTime < :now " + PAGE_ORDER)
+    List<Booking> findPastBookingsByBookerId(@Param("bookerId") Long bookerId,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.endTime < :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findPastBookingsByBookerIdAfter(@Param("bookerId") Long bookerId,
+                                                  @Param("now") LocalDateTime now,
+                                                  @Param("cursorStart") LocalDateTime cursorStart,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.startTime > :now " + PAGE_ORDER)
+    List<Booking> findFutureBookingsByBookerId(@Param("bookerId") Long bookerId,
+                                               @Param("now") LocalDateTime now,
+                                               Pageable pageable);
+
+    @Query(BOOKER_PAGE_SELECT + "AND b.startTime > :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findFutureBookingsByBookerIdAfter(@Param("bookerId") Long bookerId,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("cursorStart") LocalDateTime cursorStart,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + PAGE_ORDER)
+    List<Booking> findBookingsByOwnerId(@Param("ownerId") Long ownerId,
+                                        Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findBookingsByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                             @Param("cursorStart") LocalDateTime cursorStart,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.status = :status " + PAGE_ORDER)
+    List<Booking> findBookingsByOwnerIdAndStatus(@Param("ownerId") Long ownerId,
+                                                 @Param("status") BookingStatus status,
+                                                 Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.status = :status " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findBookingsByOwnerIdAndStatusAfter(@Param("ownerId") Long ownerId,
+                                                      @Param("status") BookingStatus status,
+                                                      @Param("cursorStart") LocalDateTime cursorStart,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.startTime <= :now AND b.endTime >= :now " + PAGE_ORDER)
+    List<Booking> findCurrentBookingsByOwnerId(@Param("ownerId") Long ownerId,
+                                               @Param("now") LocalDateTime now,
+                                               Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.startTime <= :now AND b.endTime >= :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findCurrentBookingsByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                                    @Param("now") LocalDateTime now,
+                                                    @Param("cursorStart") LocalDateTime cursorStart,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.endTime < :now " + PAGE_ORDER)
+    List<Booking> findPastBookingsByOwnerId(@Param("ownerId") Long ownerId,
+                                            @Param("now") LocalDateTime now,
+                                            Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.endTime < :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findPastBookingsByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                                 @Param("now") LocalDateTime now,
+                                                 @Param("cursorStart") LocalDateTime cursorStart,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.startTime > :now " + PAGE_ORDER)
+    List<Booking> findFutureBookingsByOwnerId(@Param("ownerId") Long ownerId,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    @Query(OWNER_PAGE_SELECT + "AND b.startTime > :now " + AFTER_CURSOR + PAGE_ORDER)
+    List<Booking> findFutureBookingsByOwnerIdAfter(@Param("ownerId") Long ownerId,
+                                                   @Param("now") LocalDateTime now,
+                                                   @Param("cursorStart") LocalDateTime cursorStart,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingWindow(" +
+            "b.id, b.booker.userId, b.startTime, b.endTime, b.status) FROM Booking b " +
+            "WHERE b.item.itemId = :itemId AND b.status IN (" +
+            "ru.practicum.shareit.booking.enums.BookingStatus.WAITING, " +
+            "ru.practicum.shareit.booking.enums.BookingStatus.APPROVED)")
+    List<BookingWindow> findWindowsByItemId(@Param("itemId") Long itemId);
+
+    @Query(value = "SELECT ranked.id AS id, ranked.booker_id AS bookerId, ranked.item_id AS itemId, " +
+            "ranked.start_time AS startTime, ranked.end_time AS endTime FROM (" +
+            "SELECT b.id, b.booker_id, b.item_id, b.start_time, b.end_time, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.end_time DESC, b.id DESC) AS rn " +
+            "FROM bookings b JOIN items i ON i.item_id = b.item_id " +
+            "WHERE i.owner_id = :ownerId AND b.status IN ('WAITING', 'APPROVED') AND b.end_time < :now) ranked " +
+            "WHERE ranked.rn = 1", nativeQuery = true)
+    List<ItemBookingView> findLastBookingsForOwnerItems(@Param("ownerId") Long ownerId,
+                                                        @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT ranked.id AS id, ranked.booker_id AS bookerId, ranked.item_id AS itemId, " +
+            "ranked.start_time AS startTime, ranked.end_time AS endTime FROM (" +
+            "SELECT b.id, b.booker_id, b.item_id, b.start_time, b.end_time, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_time ASC, b.id ASC) AS rn " +
+            "FROM bookings b JOIN items i ON i.item_id = b.item_id " +
+            "WHERE i.owner_id = :ownerId AND b.status IN ('WAITING', 'APPROVED') AND b.start_time > :now) ranked " +
+            "WHERE ranked.rn = 1", nativeQuery = true)
+    List<ItemBookingView> findNextBookingsForOwnerItems(@Param("ownerId") Long ownerId,
+                                                        @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.item.itemId = :itemId " +
+            "AND b.status = ru.practicum.shareit.booking.enums.BookingStatus.APPROVED " +
+            "AND b.startTime < :end AND b.endTime > :start")
+    boolean existsApprovedOverlap(@Param("itemId") Long itemId, @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end);
 
     @Query("SELECT b FROM Booking b WHERE b.booker.userId = :bookerId AND b.item.itemId = :itemId")
     List<Booking> findByBookerUserIdAndItemItemId(@Param("bookerId") Long bookerId, @Param("itemId") Long itemId);
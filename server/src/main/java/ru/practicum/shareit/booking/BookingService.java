@@ -12,7 +12,9 @@ public interface BookingService {
 
     BookingDto getBookingById(Long bookingId, Long userId);
 
-    Collection<BookingDto> getBookingsByOwnerId(Long ownerId);
+    Collection<BookingDto> getBookingsByOwnerIdAndState(Long ownerId, BookingState state, BookingCursor cursor,
+                                                        int from, int size);
 
-    Collection<BookingDto> getBookingsByBookerIdAndState(Long bookerId, BookingState state);
+    Collection<BookingDto> getBookingsByBookerIdAndState(Long bookerId, BookingState state, BookingCursor cursor,
+                                                         int from, int size);
 }
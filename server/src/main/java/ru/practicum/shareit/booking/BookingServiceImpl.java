@@ -1,35 +1,59 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.MeterTag;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.TracingConfig;
 import ru.practicum.shareit.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
+import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Observed(name = TracingConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final String OVERLAP_CONSTRAINT = "bookings_approved_no_overlap";
+    private static final String EXCLUSION_VIOLATION_STATE = "23P01";
+
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ItemAvailabilityService itemAvailabilityService;
 
     @Override
     public BookingDto createBooking(BookingDto bookingDto, Long bookerId) {
-        log.info("StartTime: {}, EndTime: {}", bookingDto.getStartTime(), bookingDto.getEndTime());
+        log.debug("StartTime: {}, EndTime: {}", bookingDto.getStartTime(), bookingDto.getEndTime());
 
         if (bookingDto.getStartTime() == null || bookingDto.getEndTime() == null) {
             throw new ValidationException("Booking dates cannot be null");
@@ -58,14 +82,24 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("Invalid booking dates");
         }
 
+        // Fast pre-check against this instance's timeline; approveBooking() does the authoritative overlap check.
+        if (!itemAvailabilityService.isAvailable(item.getItemId(), bookingDto.getStartTime(), bookingDto.getEndTime())) {
+            LocalDateTime nextFreeSlot = itemAvailabilityService.findNextFreeSlot(item.getItemId(),
+                    bookingDto.getStartTime(), Duration.between(bookingDto.getStartTime(), bookingDto.getEndTime()));
+            throw new ConflictException(String.format(
+                    "Item is already booked for the requested dates, next free slot starts at %s", nextFreeSlot));
+        }
+
         Booking booking = BookingMapper.convertToEntity(bookingDto, item, booker);
         booking.setStatus(BookingStatus.WAITING);
         Booking savedBooking = bookingRepository.save(booking);
+        itemAvailabilityService.onBookingSaved(savedBooking);
 
         return BookingMapper.convertToDto(savedBooking);
     }
 
     @Override
+    @Transactional
     public BookingDto approveBooking(Long bookingId, Long ownerId, boolean approved) {
         Booking booking = fetchBookingById(bookingId);
 
@@ -77,8 +111,28 @@ public class BookingServiceImpl implements BookingService {
             throw new ValidationException("Booking status is not WAITING");
         }
 
+        if (approved) {
+            // Approvals of the same item are serialized on the item row, so the overlap check cannot race.
+            itemRepository.findByIdForUpdate(booking.getItem().getItemId());
+            if (bookingRepository.existsApprovedOverlap(booking.getItem().getItemId(),
+                    booking.getStartTime(), booking.getEndTime())) {
+                throw new ConflictException("Item is already booked for the requested dates");
+            }
+        }
+
         booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking;
+        try {
+            updatedBooking = bookingRepository.save(booking);
+            bookingRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!isOverlapViolation(e)) {
+                throw e;
+            }
+            log.warn("Booking {} overlaps an approved booking: {}", bookingId, e.getMessage());
+            throw new ConflictException("Item is already booked for the requested dates");
+        }
+        itemAvailabilityService.onBookingSaved(updatedBooking);
 
         return BookingMapper.convertToDto(updatedBooking);
     }
@@ -96,30 +150,133 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public Collection<BookingDto> getBookingsByOwnerId(Long ownerId) {
+    @Transactional(readOnly = true)
+    @Timed(MetricsConfig.BOOKING_QUERY_TIMER)
+    public Collection<BookingDto> getBookingsByOwnerIdAndState(Long ownerId, @MeterTag("state") BookingState state,
+                                                               BookingCursor cursor, int from, int size) {
         if (!userRepository.existsById(ownerId)) {
             throw new NotFoundException(String.format("User with id %s not found: ", ownerId));
         }
 
-        return bookingRepository.findByItem_OwnerId(ownerId).stream()
-                .map(BookingMapper::convertToDto)
-                .toList();
+        Collection<Booking> bookings = cursor == null
+                ? findOwnerBookings(ownerId, state, OffsetPageRequest.of(from, size))
+                : findOwnerBookingsAfter(ownerId, state, cursor, OffsetPageRequest.of(0, size));
+
+        return convertToDtos(bookings);
     }
 
     @Override
-    public Collection<BookingDto> getBookingsByBookerIdAndState(Long bookerId, BookingState state) {
-        Collection<Booking> bookings = switch (state) {
-            case CURRENT -> bookingRepository.findCurrentBookingsByBookerId(bookerId, LocalDateTime.now());
-            case PAST -> bookingRepository.findPastBookingsByBookerId(bookerId, LocalDateTime.now());
-            case FUTURE -> bookingRepository.findFutureBookingsByBookerId(bookerId, LocalDateTime.now());
-            case WAITING -> bookingRepository.findByBooker_UserIdAndStatus(bookerId, BookingStatus.WAITING);
-            case REJECTED -> bookingRepository.findByBooker_UserIdAndStatus(bookerId, BookingStatus.REJECTED);
-            default -> bookingRepository.findByBooker_UserId(bookerId);
+    @Transactional(readOnly = true)
+    @Timed(MetricsConfig.BOOKING_QUERY_TIMER)
+    public Collection<BookingDto> getBookingsByBookerIdAndState(Long bookerId, @MeterTag("state") BookingState state,
+                                                                BookingCursor cursor, int from, int size) {
+        Collection<Booking> bookings = cursor == null
+                ? findBookerBookings(bookerId, state, OffsetPageRequest.of(from, size))
+                : findBookerBookingsAfter(bookerId, state, cursor, OffsetPageRequest.of(0, size));
+
+        return convertToDtos(bookings);
+    }
+
+    private List<Booking> findOwnerBookings(Long ownerId, BookingState state, Pageable pageable) {
+        return switch (state) {
+            case CURRENT -> bookingRepository.findCurrentBookingsByOwnerId(ownerId, LocalDateTime.now(), pageable);
+            case PAST -> bookingRepository.findPastBookingsByOwnerId(ownerId, LocalDateTime.now(), pageable);
+            case FUTURE -> bookingRepository.findFutureBookingsByOwnerId(ownerId, LocalDateTime.now(), pageable);
+            case WAITING -> bookingRepository.findBookingsByOwnerIdAndStatus(ownerId, BookingStatus.WAITING, pageable);
+            case REJECTED ->
+                    bookingRepository.findBookingsByOwnerIdAndStatus(ownerId, BookingStatus.REJECTED, pageable);
+            default -> bookingRepository.findBookingsByOwnerId(ownerId, pageable);
+        };
+    }
+
+    private List<Booking> findOwnerBookingsAfter(Long ownerId, BookingState state, BookingCursor cursor,
+                                                 Pageable pageable) {
+        LocalDateTime cursorStart = cursor.startTime();
+        Long cursorId = cursor.id();
+        return switch (state) {
+            case CURRENT -> bookingRepository.findCurrentBookingsByOwnerIdAfter(
+                    ownerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case PAST -> bookingRepository.findPastBookingsByOwnerIdAfter(
+                    ownerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case FUTURE -> bookingRepository.findFutureBookingsByOwnerIdAfter(
+                    ownerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case WAITING -> bookingRepository.findBookingsByOwnerIdAndStatusAfter(
+                    ownerId, BookingStatus.WAITING, cursorStart, cursorId, pageable);
+            case REJECTED -> bookingRepository.findBookingsByOwnerIdAndStatusAfter(
+                    ownerId, BookingStatus.REJECTED, cursorStart, cursorId, pageable);
+            default -> bookingRepository.findBookingsByOwnerIdAfter(ownerId, cursorStart, cursorId, pageable);
         };
+    }
+
+    private List<Booking> findBookerBookings(Long bookerId, BookingState state, Pageable pageable) {
+        return switch (state) {
+            case CURRENT -> bookingRepository.findCurrentBookingsByBookerId(bookerId, LocalDateTime.now(), pageable);
+            case PAST -> bookingRepository.findPastBookingsByBookerId(bookerId, LocalDateTime.now(), pageable);
+            case FUTURE -> bookingRepository.findFutureBookingsByBookerId(bookerId, LocalDateTime.now(), pageable);
+            case WAITING ->
+                    bookingRepository.findBookingsByBookerIdAndStatus(bookerId, BookingStatus.WAITING, pageable);
+            case REJECTED ->
+                    bookingRepository.findBookingsByBookerIdAndStatus(bookerId, BookingStatus.REJECTED, pageable);
+            default -> bookingRepository.findBookingsByBookerId(bookerId, pageable);
+        };
+    }
+
+    private List<Booking> findBookerBookingsAfter(Long bookerId, BookingState state, BookingCursor cursor,
+                                                  Pageable pageable) {
+        LocalDateTime cursorStart = cursor.startTime();
+        Long cursorId = cursor.id();
+        return switch (state) {
+            case CURRENT -> bookingRepository.findCurrentBookingsByBookerIdAfter(
+                    bookerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case PAST -> bookingRepository.findPastBookingsByBookerIdAfter(
+                    bookerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case FUTURE -> bookingRepository.findFutureBookingsByBookerIdAfter(
+                    bookerId, LocalDateTime.now(), cursorStart, cursorId, pageable);
+            case WAITING -> bookingRepository.findBookingsByBookerIdAndStatusAfter(
+                    bookerId, BookingStatus.WAITING, cursorStart, cursorId, pageable);
+            case REJECTED -> bookingRepository.findBookingsByBookerIdAndStatusAfter(
+                    bookerId, BookingStatus.REJECTED, cursorStart, cursorId, pageable);
+            default -> bookingRepository.findBookingsByBookerIdAfter(bookerId, cursorStart, cursorId, pageable);
+        };
+    }
+
+    /**
+     * Tells whether `e` was raised by the PostgreSQL exclusion constraint on approved bookings, either by its
+     * name or by the `exclusion_violation` SQL state.
+     */
+    private static boolean isOverlapViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && OVERLAP_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps a page of bookings whose items and bookers are already fetched, loading the comments of all
+     * their items with one `IN` query instead of one lazy collection per item.
+     */
+    private List<BookingDto> convertToDtos(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> itemIds = bookings.stream()
+                .map(booking -> booking.getItem().getItemId())
+                .distinct()
+                .toList();
+        Map<Long, List<Comment>> commentsByItemId = commentRepository.findByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getItemId()));
 
         return bookings.stream()
-                .sorted(Comparator.comparing(Booking::getStartTime).reversed())
-                .map(BookingMapper::convertToDto)
+                .map(booking -> BookingMapper.convertToDto(booking,
+                        commentsByItemId.getOrDefault(booking.getItem().getItemId(), List.of())))
                 .toList();
     }
 
@@ -135,7 +292,7 @@ public class BookingServiceImpl implements BookingService {
                     return new NotFoundException(String.format("Booking with id %s not found", id));
                 });
 
-        log.info("Booking fetched successfully: id = {}", fetchedBooking.getId());
+        log.debug("Booking fetched successfully: id = {}", fetchedBooking.getId());
 
         return fetchedBooking;
     }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ItemAvailabilityService {
+    boolean isAvailable(long itemId, LocalDateTime start, LocalDateTime end);
+
+    LocalDateTime findNextFreeSlot(long itemId, LocalDateTime after, Duration duration);
+
+    Optional<BookingShortDto> findLastBooking(long itemId, LocalDateTime now);
+
+    Optional<BookingShortDto> findNextBooking(long itemId, LocalDateTime now);
+
+    void onBookingSaved(Booking booking);
+}
@@ -0,0 +1,184 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Answers availability questions for items from per-item timelines held in memory.
+ *
+ * A timeline is loaded from the database the first time its item is asked about and is then kept in sync
+ * with every booking saved through `BookingServiceImpl`. Timelines are softly referenced, so the garbage
+ * collector drops them under memory pressure and they are simply reloaded on the next request.
+ *
+ * Timelines are loaded outside of any map lock: the first caller puts a `Loading` marker for the item, other
+ * callers wait for its result, and bookings committed while the query runs are queued on the marker and
+ * replayed over the loaded timeline before it is published.
+ *
+ * Timelines only see bookings saved through this instance, so with several server instances they can be stale.
+ * They are a fast pre-check and a source of suggestions, never the authority: an overlap is only ruled out by
+ * `BookingRepository.existsApprovedOverlap()` under the item row lock on approval and by the
+ * `bookings_approved_no_overlap` exclusion constraint.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemAvailabilityServiceImpl implements ItemAvailabilityService {
+    private final BookingRepository bookingRepository;
+    private final ConcurrentMap<Long, TimelineEntry> timelines = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ItemTimeline> clearedTimelines = new ReferenceQueue<>();
+
+    @Override
+    public boolean isAvailable(long itemId, LocalDateTime start, LocalDateTime end) {
+        return timeline(itemId).isFree(start, end);
+    }
+
+    @Override
+    public LocalDateTime findNextFreeSlot(long itemId, LocalDateTime after, Duration duration) {
+        return timeline(itemId).nextFreeSlot(after, duration);
+    }
+
+    @Override
+    public Optional<BookingShortDto> findLastBooking(long itemId, LocalDateTime now) {
+        return timeline(itemId).last(now).map(BookingMapper::convertToShortDto);
+    }
+
+    @Override
+    public Optional<BookingShortDto> findNextBooking(long itemId, LocalDateTime now) {
+        return timeline(itemId).next(now).map(BookingMapper::convertToShortDto);
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        long itemId = booking.getItem().getItemId();
+        BookingWindow window = BookingMapper.convertToWindow(booking);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(itemId, window);
+                }
+            });
+        } else {
+            apply(itemId, window);
+        }
+    }
+
+    private void apply(long itemId, BookingWindow window) {
+        timelines.computeIfPresent(itemId, (id, entry) -> {
+            if (entry instanceof Loading loading) {
+                loading.pending.add(window);
+                return loading;
+            }
+            ItemTimeline timeline = ((TimelineReference) entry).get();
+            return timeline == null ? null
+                    : new TimelineReference(id, timeline.with(window, LocalDateTime.now()), clearedTimelines);
+        });
+    }
+
+    private ItemTimeline timeline(long itemId) {
+        expungeClearedTimelines();
+
+        while (true) {
+            TimelineEntry entry = timelines.get(itemId);
+            if (entry instanceof TimelineReference reference) {
+                ItemTimeline timeline = reference.get();
+                if (timeline != null) {
+                    return timeline;
+                }
+            } else if (entry instanceof Loading loading) {
+                return awaitLoading(loading);
+            }
+
+            Loading loading = new Loading();
+            if (entry == null ? timelines.putIfAbsent(itemId, loading) == null
+                    : timelines.replace(itemId, entry, loading)) {
+                return load(itemId, loading);
+            }
+        }
+    }
+
+    /**
+     * Queries the item's bookings while only the `Loading` marker is in the map, then publishes the timeline
+     * together with the bookings that `apply()` queued on the marker in the meantime.
+     */
+    private ItemTimeline load(long itemId, Loading loading) {
+        ItemTimeline loaded;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            loaded = ItemTimeline.of(bookingRepository.findWindowsByItemId(itemId), now);
+        } catch (RuntimeException e) {
+            timelines.remove(itemId, loading);
+            loading.result.completeExceptionally(e);
+            throw e;
+        }
+
+        ItemTimeline[] published = {loaded};
+        timelines.computeIfPresent(itemId, (id, entry) -> {
+            if (entry != loading) {
+                return entry;
+            }
+            for (BookingWindow window : loading.pending) {
+                published[0] = published[0].with(window, now);
+            }
+            return new TimelineReference(id, published[0], clearedTimelines);
+        });
+        log.debug("Loaded timeline of item {} with {} bookings", itemId, published[0].size());
+        loading.result.complete(published[0]);
+        return published[0];
+    }
+
+    private static ItemTimeline awaitLoading(Loading loading) {
+        try {
+            return loading.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void expungeClearedTimelines() {
+        Reference<? extends ItemTimeline> cleared;
+        while ((cleared = clearedTimelines.poll()) != null) {
+            TimelineReference reference = (TimelineReference) cleared;
+            timelines.remove(reference.itemId, reference);
+        }
+    }
+
+    private sealed interface TimelineEntry permits TimelineReference, Loading {
+    }
+
+    /**
+     * Marks a timeline that is being loaded. `pending` is only touched inside `compute` calls for its item.
+     */
+    private static final class Loading implements TimelineEntry {
+        private final CompletableFuture<ItemTimeline> result = new CompletableFuture<>();
+        private final List<BookingWindow> pending = new ArrayList<>();
+    }
+
+    private static final class TimelineReference extends SoftReference<ItemTimeline> implements TimelineEntry {
+        private final long itemId;
+
+        private TimelineReference(long itemId, ItemTimeline timeline, ReferenceQueue<ItemTimeline> queue) {
+            super(timeline, queue);
+            this.itemId = itemId;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ru.practicum.shareit.booking;
+
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Immutable snapshot of the active bookings of one item, kept as sorted arrays.
+ *
+ * Approved windows never overlap (the approval path locks the item and PostgreSQL enforces it with an
+ * exclusion constraint), so sorting them by start also sorts them by end and every availability question
+ * is a binary search. Updates build a new snapshot, which keeps reads lock-free: the changed window is
+ * removed and inserted at its binary-searched position, and windows that ended before the update are
+ * dropped except the latest of them, which {@link #last} still reports.
+ */
+final class ItemTimeline {
+    private static final Comparator<BookingWindow> BY_START =
+            Comparator.comparing(BookingWindow::start).thenComparing(BookingWindow::id);
+    private static final Comparator<BookingWindow> BY_END =
+            Comparator.comparing(BookingWindow::end).thenComparing(BookingWindow::id);
+
+    private final BookingWindow[] byStart;
+    private final BookingWindow[] byEnd;
+    private final BookingWindow[] approved;
+
+    private ItemTimeline(BookingWindow[] byStart, BookingWindow[] byEnd, BookingWindow[] approved) {
+        this.byStart = byStart;
+        this.byEnd = byEnd;
+        this.approved = approved;
+    }
+
+    static ItemTimeline of(Collection<BookingWindow> windows, LocalDateTime now) {
+        BookingWindow[] byStart = windows.stream()
+                .filter(ItemTimeline::isActive)
+                .sorted(BY_START)
+                .toArray(BookingWindow[]::new);
+        BookingWindow[] byEnd = Arrays.stream(byStart).sorted(BY_END).toArray(BookingWindow[]::new);
+        BookingWindow[] approved = Arrays.stream(byStart)
+                .filter(window -> window.status() == BookingStatus.APPROVED)
+                .toArray(BookingWindow[]::new);
+        return new ItemTimeline(byStart, byEnd, approved).withoutEndedBefore(now);
+    }
+
+    ItemTimeline with(BookingWindow window, LocalDateTime now) {
+        BookingWindow[] newByStart = remove(byStart, window.id());
+        BookingWindow[] newByEnd = remove(byEnd, window.id());
+        BookingWindow[] newApproved = remove(approved, window.id());
+        if (isActive(window)) {
+            newByStart = insert(newByStart, window, BY_START);
+            newByEnd = insert(newByEnd, window, BY_END);
+            if (window.status() == BookingStatus.APPROVED) {
+                newApproved = insert(newApproved, window, BY_START);
+            }
+        }
+        return new ItemTimeline(newByStart, newByEnd, newApproved).withoutEndedBefore(now);
+    }
+    boolean isFree(LocalDateTime start, LocalDateTime end) {
+        int startingBeforeEnd = firstIndex(approved, window -> !window.start().isBefore(end));
+        return startingBeforeEnd == 0 || !approved[startingBeforeEnd - 1].end().isAfter(start);
+    }
+
+    LocalDateTime nextFreeSlot(LocalDateTime after, Duration duration) {
+        LocalDateTime candidate = after;
+        for (int i = firstIndex(approved, window -> window.end().isAfter(after)); i < approved.length; i++) {
+            if (!approved[i].start().isBefore(candidate.plus(duration))) {
+                break;
+            }
+            if (approved[i].end().isAfter(candidate)) {
+                candidate = approved[i].end();
+            }
+        }
+        return candidate;
+    }
+
+    Optional<BookingWindow> last(LocalDateTime now) {
+        int endingAtOrAfterNow = firstIndex(byEnd, window -> !window.end().isBefore(now));
+        return endingAtOrAfterNow == 0 ? Optional.empty() : Optional.of(byEnd[endingAtOrAfterNow - 1]);
+    }
+
+    Optional<BookingWindow> next(LocalDateTime now) {
+        int startingAfterNow = firstIndex(byStart, window -> window.start().isAfter(now));
+        return startingAfterNow == byStart.length ? Optional.empty() : Optional.of(byStart[startingAfterNow]);
+    }
+
+    int size() {
+        return byStart.length;
+    }
+
+    private ItemTimeline withoutEndedBefore(LocalDateTime now) {
+        int endedBeforeNow = firstIndex(byEnd, window -> !window.end().isBefore(now));
+        if (endedBeforeNow <= 1) {
+            return this;
+        }
+        BookingWindow lastEnded = byEnd[endedBeforeNow - 1];
+        Predicate<BookingWindow> kept = window -> window == lastEnded || !window.end().isBefore(now);
+        return new ItemTimeline(
+                Arrays.stream(byStart).filter(kept).toArray(BookingWindow[]::new),
+                Arrays.copyOfRange(byEnd, endedBeforeNow - 1, byEnd.length),
+                Arrays.stream(approved).filter(kept).toArray(BookingWindow[]::new));
+    }
+
+    private static BookingWindow[] remove(BookingWindow[] windows, Long id) {
+        for (int i = 0; i < windows.length; i++) {
+            if (Objects.equals(windows[i].id(), id)) {
+                BookingWindow[] result = new BookingWindow[windows.length - 1];
+                System.arraycopy(windows, 0, result, 0, i);
+                System.arraycopy(windows, i + 1, result, i, windows.length - i - 1);
+                return result;
+            }
+        }
+        return windows;
+    }
+
+    private static BookingWindow[] insert(BookingWindow[] windows, BookingWindow window,
+                                          Comparator<BookingWindow> order) {
+        int position = Arrays.binarySearch(windows, window, order);
+        int insertAt = position >= 0 ? position : -position - 1;
+        BookingWindow[] result = new BookingWindow[windows.length + 1];
+        System.arraycopy(windows, 0, result, 0, insertAt);
+        result[insertAt] = window;
+        System.arraycopy(windows, insertAt, result, insertAt + 1, windows.length - insertAt);
+        return result;
+    }
+
+    private static boolean isActive(BookingWindow window) {
+        return window.status() == BookingStatus.WAITING || window.status() == BookingStatus.APPROVED;
+    }
+
+    /**
+     * Returns the index of the first window matching a predicate that is false for a prefix of the array
+     * and true for the rest, or the array length if no window matches.
+     */
+    private static int firstIndex(BookingWindow[] windows, Predicate<BookingWindow> predicate) {
+        int low = 0;
+        int high = windows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(windows[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -27,6 +28,8 @@ import java.time.LocalDateTime;
  * The `status` field represents the current status of the booking.
  * The `booker` field represents the user who booked the item.
  * The `item` field represents the item being booked.
+ * The `version` field represents the version of the underlying booking entity; it is not serialized
+ * and is only used to build the `ETag` of the response.
  */
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -48,4 +51,6 @@ public class BookingDto {
     BookingStatus status;
     UserDto booker;
     ItemDto item;
-}
\ No newline at end of file
+    @JsonIgnore
+    Long version;
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a short Data Transfer Object (DTO) for a booking, used as the last and next booking of an item.
+ *
+ * This class includes attributes such as the booking's id, booker id, start time, and end time.
+ * It is built directly by JPQL constructor expressions, so no `Booking` entity graph is loaded for it.
+ * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
+ * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
+ * It uses the `@JsonProperty` annotation to keep the `start` and `end` names used by `BookingDto`.
+ *
+ * The `id` field represents the unique identifier of the booking.
+ * The `bookerId` field represents the unique identifier of the user who booked the item.
+ * The `startTime` field represents the start time of the booking.
+ * The `endTime` field represents the end time of the booking.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingShortDto {
+    Long id;
+    Long bookerId;
+
+    @JsonProperty("start")
+    LocalDateTime startTime;
+
+    @JsonProperty("end")
+    LocalDateTime endTime;
+}
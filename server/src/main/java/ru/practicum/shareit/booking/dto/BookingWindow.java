@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the time window an active booking occupies on its item.
+ *
+ * It is built directly by a JPQL constructor expression when an item's timeline is loaded into
+ * `ItemAvailabilityService`, so no `Booking` entity graph is loaded for it.
+ *
+ * The `id` field represents the unique identifier of the booking.
+ * The `bookerId` field represents the unique identifier of the user who booked the item.
+ * The `start` field represents the start time of the booking.
+ * The `end` field represents the end time of the booking.
+ * The `status` field represents the status of the booking, either `WAITING` or `APPROVED`.
+ */
+public record BookingWindow(Long id, Long bookerId, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a booking together with the id of the booked item.
+ *
+ * Returned by the batch last/next booking queries of `BookingRepository`, which select one booking
+ * per item, so the results can be grouped by `itemId` without loading `Booking` entities.
+ */
+public interface ItemBookingView {
+    Long getId();
+
+    Long getBookerId();
+
+    Long getItemId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
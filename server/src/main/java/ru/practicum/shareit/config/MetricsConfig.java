@@ -0,0 +1,30 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.aop.MeterTagAnnotationHandler;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics of the service layer.
+ *
+ * Service implementations annotated with `@Timed(MetricsConfig.SERVICE_TIMER)` are timed per method by the
+ * `TimedAspect` that Spring Boot registers when `management.observations.annotations.enabled` is set.
+ * Booking list queries use their own `BOOKING_QUERY_TIMER`, since they carry an extra `state` tag and
+ * Prometheus rejects meters that share a name but not the tag keys.
+ * Repository calls are timed by Spring Boot itself as `spring.data.repository.invocations`. Percentile
+ * histograms of both timers are switched on in `application.properties`.
+ */
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "shareit.service";
+    public static final String BOOKING_QUERY_TIMER = "shareit.booking.queries";
+
+    /**
+     * Lets `@MeterTag` parameters, such as the requested `BookingState`, add tags to the service timers.
+     */
+    @Bean
+    public MeterTagAnnotationHandler meterTagAnnotationHandler(BeanFactory beanFactory) {
+        return new MeterTagAnnotationHandler(beanFactory::getBean, beanFactory::getBean);
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Service implementations annotated with `@Observed(name = TracingConfig.SERVICE_OBSERVATION)` get a span per
+ * method between the controller and the repository spans. Meters of that observation are disabled in
+ * `application.properties`, since the same calls are already timed as `MetricsConfig.SERVICE_TIMER`.
+ */
+@Configuration
+public class TracingConfig {
+    public static final String SERVICE_OBSERVATION = "shareit.service.calls";
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit.tracing.log-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
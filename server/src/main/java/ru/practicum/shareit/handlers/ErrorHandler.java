@@ -6,8 +6,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ErrorResponse;
 import ru.practicum.shareit.exceptions.ForbiddenException;
+import ru.practicum.shareit.exceptions.InvalidCursorException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 
 import java.util.HashMap;
@@ -40,6 +42,22 @@ public class ErrorHandler {
         return new ErrorResponse("error:", messages);
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflict(final ConflictException e) {
+        Map<String, String> messages = new HashMap<>();
+        messages.put("error", e.getMessage());
+        return new ErrorResponse("error:", messages);
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidCursor(final InvalidCursorException e) {
+        Map<String, String> messages = new HashMap<>();
+        messages.put("error", e.getMessage());
+        return new ErrorResponse("Validation Error", messages);
+    }
+
     @ExceptionHandler({MethodArgumentNotValidException.class, IllegalArgumentException.class})
     public ResponseEntity<ErrorResponse> handleValidationExceptions(Exception e) {
         Map<String, String> errors = new HashMap<>();
@@ -1,10 +1,19 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Collection<Comment> findByItem_ItemId(Long itemId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.item.ownerId = :ownerId ORDER BY c.created")
+    List<Comment> findByItemOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.item.itemId IN :itemIds ORDER BY c.created")
+    List<Comment> findByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
 }
\ No newline at end of file
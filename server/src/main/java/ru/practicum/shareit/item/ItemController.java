@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.util.EntityTags;
 import ru.practicum.shareit.util.HeaderConstants;
 import ru.practicum.shareit.util.PathConstants;
 
@@ -37,10 +39,12 @@ public class ItemController {
     }
 
     @GetMapping(PathConstants.ITEM_ID_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public ItemDto getItem(@PathVariable("item-id") long itemId) {
-        log.info("Received GET request for item with id: {}", itemId);
-        return itemService.getItemById(itemId);
+    public ResponseEntity<ItemDto> getItem(@RequestHeader(value = HeaderConstants.USER_ID_HEADER, required = false)
+                                           Long userId,
+                                           @PathVariable("item-id") long itemId) {
+        log.info("Received GET request for item with id: {} for user with id: {}", itemId, userId);
+        ItemDto item = itemService.getItemById(itemId, userId);
+        return ResponseEntity.ok().eTag(EntityTags.of(item)).body(item);
     }
 
     @PostMapping
@@ -70,9 +74,11 @@ public class ItemController {
 
     @GetMapping(PathConstants.SEARCH_PATH)
     @ResponseStatus(HttpStatus.OK)
-    public Collection<ItemDto> searchItems(@RequestParam("text") String text) {
-        log.info("Received GET request for items with text: {}", text);
-        return itemService.searchItems(text);
+    public Collection<ItemDto> searchItems(@RequestParam("text") String text,
+                                           @RequestParam(defaultValue = "0") int from,
+                                           @RequestParam(defaultValue = "10") int size) {
+        log.info("Received GET request for items with text: {}, from = {}, size = {}", text, from, size);
+        return itemService.searchItems(text, from, size);
     }
 
     @PostMapping(PathConstants.ITEM_ID_PATH + PathConstants.COMMENT_PATH)
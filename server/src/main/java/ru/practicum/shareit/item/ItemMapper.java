@@ -2,19 +2,43 @@ package ru.practicum.shareit.item;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ItemMapper {
 
     public static ItemDto convertToDto(Item item) {
+        ItemDto itemDto = convertFields(item);
+        itemDto.setComments(item.getComments() != null ?
+                item.getComments().stream()
+                        .map(CommentMapper::convertToDto)
+                        .toList() : Collections.emptyList());
+        return itemDto;
+    }
+
+    public static ItemDto convertToDto(Item item, BookingShortDto lastBooking, BookingShortDto nextBooking,
+                                       Collection<Comment> comments) {
+        ItemDto itemDto = convertFields(item);
+        itemDto.setLastBooking(lastBooking);
+        itemDto.setNextBooking(nextBooking);
+        itemDto.setComments(comments != null ?
+                comments.stream()
+                        .map(CommentMapper::convertToDto)
+                        .toList() : Collections.emptyList());
+        return itemDto;
+    }
+
+    private static ItemDto convertFields(Item item) {
         ItemDto itemDto = new ItemDto();
         itemDto.setId(item.getItemId());
         itemDto.setName(item.getName());
@@ -22,10 +46,7 @@ public class ItemMapper {
         itemDto.setAvailable(item.isAvailable());
         itemDto.setOwner(item.getOwnerId());
         itemDto.setRequestId(item.getRequest() != null ? item.getRequest().getRequestId() : null);
-        itemDto.setComments(item.getComments() != null ?
-                item.getComments().stream()
-                        .map(CommentMapper::convertToDto)
-                        .toList() : Collections.emptyList());
+        itemDto.setVersion(item.getVersion());
         return itemDto;
     }
 
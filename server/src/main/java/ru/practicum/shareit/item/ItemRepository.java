@@ -1,22 +1,61 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.LikePatterns;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Collection<Item> findByOwnerId(Long userId);
 
+    List<Item> findByRequestRequestIdIn(Collection<Long> requestIds);
+
+    Slice<Item> findByIsAvailableTrue(Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.itemId = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") Long itemId);
+
     @Transactional
-    void deleteByOwnerIdAndItemId(Long ownerId, Long itemId);
+    long deleteByOwnerIdAndItemId(Long ownerId, Long itemId);
+
+    default List<Item> searchItems(String text, Pageable pageable) {
+        return searchItemsByPattern(LikePatterns.escape(text), pageable);
+    }
+
+    default List<Item> fullTextSearch(String text, int from, int size) {
+        return fullTextSearch(text, LikePatterns.escape(text), from, size);
+    }
 
     @Query("SELECT i FROM Item i WHERE " +
-            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
-            "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%'))) AND " +
-            "i.isAvailable = true")
-    Collection<Item> searchItems(String text);
+            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '!' OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '!') AND " +
+            "i.isAvailable = true " +
+            "ORDER BY CASE WHEN LOWER(i.name) LIKE LOWER(CONCAT('%', :pattern, '%')) ESCAPE '!' THEN 0 ELSE 1 END, " +
+            "i.itemId")
+    List<Item> searchItemsByPattern(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT i.* FROM items i " +
+            "WHERE i.is_available = true AND (" +
+            "to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, '')) " +
+            "@@ plainto_tsquery('simple', :text) OR " +
+            "i.name ILIKE CONCAT('%', :pattern, '%') ESCAPE '!' OR " +
+            "i.description ILIKE CONCAT('%', :pattern, '%') ESCAPE '!') " +
+            "ORDER BY ts_rank(to_tsvector('simple', coalesce(i.name, '') || ' ' || coalesce(i.description, '')), " +
+            "plainto_tsquery('simple', :text)) DESC, " +
+            "similarity(coalesce(i.name, ''), :text) DESC, i.item_id " +
+            "LIMIT :size OFFSET :from", nativeQuery = true)
+    List<Item> fullTextSearch(@Param("text") String text, @Param("pattern") String pattern,
+                              @Param("from") int from, @Param("size") int size);
 }
@@ -9,7 +9,7 @@ import java.util.Collection;
 public interface ItemService {
     Collection<ItemDto> findByUserId(long userId);
 
-    ItemDto getItemById(long itemId);
+    ItemDto getItemById(long itemId, Long userId);
 
     ItemDto addItem(ItemDto itemDto, long userId);
 
@@ -17,9 +17,7 @@ public interface ItemService {
 
     void deleteItem(long userId, long itemId);
 
-    Collection<ItemDto> searchItems(String text);
+    Collection<ItemDto> searchItems(String text, int from, int size);
 
     CommentDto addComment(Long itemId, Long userId, CommentDto commentDto);
-
-    void updateBookingsForItem(Long itemId);
 }
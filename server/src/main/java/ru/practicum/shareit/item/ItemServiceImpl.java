@@ -1,11 +1,20 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.ItemAvailabilityService;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.TracingConfig;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDto;
@@ -13,6 +22,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
@@ -23,9 +33,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Observed(name = TracingConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
@@ -33,25 +48,51 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository requestRepository;
+    private final ItemAvailabilityService itemAvailabilityService;
+    private final ItemSearchEngine itemSearchEngine;
 
     @Override
+    @Transactional(readOnly = true)
     public Collection<ItemDto> findByUserId(long userId) {
-        return itemRepository.findByOwnerId(userId).stream()
-                .map(ItemMapper::convertToDto)
+        Collection<Item> items = itemRepository.findByOwnerId(userId);
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingShortDto> lastBookings = groupByItemId(
+                bookingRepository.findLastBookingsForOwnerItems(userId, now));
+        Map<Long, BookingShortDto> nextBookings = groupByItemId(
+                bookingRepository.findNextBookingsForOwnerItems(userId, now));
+        Map<Long, List<Comment>> comments = commentRepository.findByItemOwnerId(userId).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getItemId()));
+        log.debug("Enriching {} items of owner with id: {}", items.size(), userId);
+
+        return items.stream()
+                .map(item -> ItemMapper.convertToDto(item,
+                        lastBookings.get(item.getItemId()),
+                        nextBookings.get(item.getItemId()),
+                        comments.getOrDefault(item.getItemId(), Collections.emptyList())))
                 .toList();
     }
 
     @Override
-    public ItemDto getItemById(long itemId) {
+    @Transactional(readOnly = true)
+    public ItemDto getItemById(long itemId, Long userId) {
         Item item = fetchItemById(itemId);
 
         Collection<Comment> comments = commentRepository.findByItem_ItemId(itemId);
         item.setComments(comments);
-        log.info("Comments for itemId = {}: {}", itemId, comments.size());
+        log.debug("Comments for itemId = {}: {}", itemId, comments.size());
 
-        updateBookingsForItem(itemId);
+        ItemDto itemDto = ItemMapper.convertToDto(item);
+        if (Objects.equals(item.getOwnerId(), userId)) {
+            LocalDateTime now = LocalDateTime.now();
+            itemDto.setLastBooking(itemAvailabilityService.findLastBooking(itemId, now).orElse(null));
+            itemDto.setNextBooking(itemAvailabilityService.findNextBooking(itemId, now).orElse(null));
+        }
 
-        return ItemMapper.convertToDto(item);
+        return itemDto;
     }
 
     @Override
@@ -81,15 +122,14 @@ public class ItemServiceImpl implements ItemService {
         item.setAvailable(itemDto.getAvailable());
 
         Item savedItem = itemRepository.save(item);
-
-        updateBookingsForItem(savedItem.getItemId());
+        itemSearchEngine.onItemSaved(savedItem);
 
         return ItemMapper.convertToDto(savedItem);
     }
 
     @Override
     public ItemDto updateItem(ItemUpdateDto itemUpdateDto, long userId, long itemId) {
-        log.info("Checking user exists with id: {}", userId);
+        log.debug("Checking user exists with id: {}", userId);
         if (!userRepository.existsById(userId)) {
             throw new NotFoundException(String.format("User with id %s not found", userId));
         }
@@ -100,27 +140,28 @@ public class ItemServiceImpl implements ItemService {
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException(String.format("Item with id %s not found", itemId)));
 
-        log.info("Updating item fields");
+        log.debug("Updating item fields");
         ItemMapper.updateItemFields(item, itemUpdateDto);
 
         Item updatedItem = itemRepository.save(item);
-
-        updateBookingsForItem(updatedItem.getItemId());
+        itemSearchEngine.onItemSaved(updatedItem);
         log.info("Item updated successfully: id = {}", updatedItem.getItemId());
 
         return ItemMapper.convertToDto(updatedItem);
     }
 
     public void deleteItem(long userId, long itemId) {
-        itemRepository.deleteByOwnerIdAndItemId(userId, itemId);
-        log.info("Item deleted successfully: id = {}", itemId);
+        if (itemRepository.deleteByOwnerIdAndItemId(userId, itemId) > 0) {
+            itemSearchEngine.onItemDeleted(itemId);
+            log.info("Item deleted successfully: id = {}", itemId);
+        }
     }
 
-    public Collection<ItemDto> searchItems(String text) {
-        if (text == null || text.isEmpty()) {
+    public Collection<ItemDto> searchItems(String text, int from, int size) {
+        if (text == null || text.isBlank()) {
             return Collections.emptyList();
         }
-        return itemRepository.searchItems(text).stream()
+        return itemSearchEngine.search(text.trim(), from, size).stream()
                 .map(ItemMapper::convertToDto)
                 .toList();
     }
@@ -136,11 +177,11 @@ public class ItemServiceImpl implements ItemService {
 
         LocalDateTime now = LocalDateTime.now();
         List<Booking> bookings = bookingRepository.findByBookerUserIdAndItemItemId(userId, itemId);
-        log.info("Bookings for userId={}, itemId={}: {}", userId, itemId, bookings);
-        log.info("Checking booking for userId={}, itemId={}, current time={}", userId, itemId, now);
+        log.debug("Checking {} bookings for userId={}, itemId={}, current time={}",
+                bookings.size(), userId, itemId, now);
 
         if (bookings.isEmpty()) {
-            log.info("No bookings found for userId={} and itemId={}", userId, itemId);
+            log.debug("No bookings found for userId={} and itemId={}", userId, itemId);
             throw new ValidationException(String.format(
                     "User with id %s has not booked item with id %s", userId, itemId));
         }
@@ -176,20 +217,9 @@ public class ItemServiceImpl implements ItemService {
         return CommentMapper.convertToDto(savedComment);
     }
 
-    public void updateBookingsForItem(Long itemId) {
-        Item item = fetchItemById(itemId);
-
-        Booking lastBooking = bookingRepository.findLastBookingForItem(itemId);
-        Booking nextBooking = bookingRepository.findNextBookingForItem(itemId);
-
-        log.info("Updating bookings for item with id: {}", itemId);
-
-        item.setLastBooking(lastBooking);
-        item.setNextBooking(nextBooking);
-
-        itemRepository.save(item);
-
-        log.info("Bookings updated successfully: itemId = {}", itemId);
+    private static Map<Long, BookingShortDto> groupByItemId(Collection<ItemBookingView> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(ItemBookingView::getItemId, BookingMapper::convertToShortDto));
     }
 
     private Item fetchItemById(Long itemId) {
@@ -204,7 +234,7 @@ public class ItemServiceImpl implements ItemService {
                     return new NotFoundException(String.format("Item with id %s not found", itemId));
                 });
 
-        log.info("Item fetched successfully: id = {}, name = {}, description = {}",
+        log.debug("Item fetched successfully: id = {}, name = {}, description = {}",
                 fetchedItem.getItemId(), fetchedItem.getName(), fetchedItem.getDescription());
 
         return fetchedItem;
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -9,7 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 
 import java.util.Collection;
 
@@ -34,9 +35,11 @@ import java.util.Collection;
  * The `available` field represents the availability status of the item and must not be null.
  * The `owner` field represents the owner of the item.
  * The `requestId` field represents the id of the request associated with the item.
- * The `lastBooking` field represents the last booking details of the item.
- * The `nextBooking` field represents the next booking details of the item.
+ * The `lastBooking` field represents the last booking details of the item, filled only for the owner.
+ * The `nextBooking` field represents the next booking details of the item, filled only for the owner.
  * The `comments` field represents a collection of comments associated with the item.
+ * The `version` field represents the version of the underlying item entity; it is not serialized
+ * and is only used to build the `ETag` of the response.
  */
 @Data
 @NoArgsConstructor
@@ -53,7 +56,9 @@ public class ItemDto {
     Boolean available;
     Long owner;
     Long requestId;
-    Booking lastBooking;
-    Booking nextBooking;
+    BookingShortDto lastBooking;
+    BookingShortDto nextBooking;
     Collection<CommentDto> comments;
-}
\ No newline at end of file
+    @JsonIgnore
+    Long version;
+}
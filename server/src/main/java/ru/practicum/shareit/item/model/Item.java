@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,14 +11,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import ru.practicum.shareit.booking.Booking;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.request.ItemRequest;
 
 import java.util.ArrayList;
@@ -28,9 +32,11 @@ import java.util.Collection;
  *
  * This class includes attributes such as the item's id, name, description, availability status, owner id,
  * a link to the corresponding user request (if the item was created at the request of another user),
- * last booking, next booking, and a collection of comments.
+ * and a collection of comments.
  *
  * It uses the `@Entity` and `@Table` annotations to define it as a JPA entity mapped to the "items" table.
+ * It uses the `@Cacheable` and `@Cache` annotations to keep the entity in the Hibernate second-level cache
+ * region "items" with the `READ_WRITE` strategy, so lookups by id are served without a database round trip.
  * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
  * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
  * It uses the `@NotBlank` and `@NotNull` annotations to ensure that certain fields are provided and not blank.
@@ -41,18 +47,21 @@ import java.util.Collection;
  * The `isAvailable` field represents the availability status of the item and must not be null.
  * The `ownerId` field represents the owner of the item.
  * The `request` field represents the request associated with the item.
- * The `lastBooking` field represents the last booking details of the item.
- * The `nextBooking` field represents the next booking details of the item.
  * The `comments` field represents a collection of comments associated with the item.
+ * The `version` field represents the optimistic lock version of the item, incremented on every update
+ * and used to build the `ETag` of its representation.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @RequiredArgsConstructor
 @Table(name = "items")
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_item_id_seq", allocationSize = 50)
     Long itemId;
 
     @NotBlank(message = "Name is required")
@@ -72,14 +81,9 @@ public class Item {
     @JoinColumn(name = "request_id")
     ItemRequest request;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "last_booking_id")
-    Booking lastBooking;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "next_booking_id")
-    Booking nextBooking;
-
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     Collection<Comment> comments = new ArrayList<>();
-}
\ No newline at end of file
+
+    @Version
+    Long version;
+}
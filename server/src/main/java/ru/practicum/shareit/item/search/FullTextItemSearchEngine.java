@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * PostgreSQL search engine.
+ *
+ * Matches items through the `tsvector` GIN index and falls back to the trigram indexes for substring
+ * matches, ranking full-text hits first. The indexes are created by the PostgreSQL migration
+ * `V4__add_search_indexes.sql`.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "full-text", matchIfMissing = true)
+public class FullTextItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        log.debug("Full-text search for '{}', from = {}, size = {}", text, from, size);
+        return itemRepository.fullTextSearch(text, from, size);
+    }
+}
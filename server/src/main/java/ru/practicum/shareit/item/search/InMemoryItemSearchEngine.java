@@ -0,0 +1,366 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.OffsetPageRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-process search engine backed by an inverted index over item names and descriptions.
+ *
+ * Each token maps to a sorted `long[]` of item ids. A query token matches every indexed token it is
+ * a prefix of, and all query tokens must match. Items are ranked by the number of matching name tokens
+ * (weighted twice) plus matching description tokens, then by id.
+ *
+ * The index is kept up to date by {@link ru.practicum.shareit.item.ItemServiceImpl} and skips
+ * unavailable items. It is rebuilt from the database on a background thread once the application
+ * is ready; until then searches fall back to the `LIKE` query. Only the requested page of ids is
+ * loaded from the database, by primary key.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "in-memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long[] EMPTY = new long[0];
+    private static final Comparator<ScoredId> BY_SCORE =
+            Comparator.comparingInt(ScoredId::score).reversed().thenComparingLong(ScoredId::itemId);
+
+    private final ItemRepository itemRepository;
+    private final int rebuildBatchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, long[]> postings = new TreeMap<>();
+    private final Map<Long, IndexedItem> documents = new HashMap<>();
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+
+    public InMemoryItemSearchEngine(ItemRepository itemRepository,
+                                    @Value("${shareit.search.in-memory.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.itemRepository = itemRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("item-index-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild in-memory item search index, LIKE search stays in use", e);
+            }
+        });
+    }
+
+    /**
+     * Items are read in `itemId` order, so the ids of each token are appended to a growable buffer and
+     * come out sorted. The buffers are merged into the index under the write lock once all batches are read,
+     * skipping items that {@link #onItemSaved} or {@link #onItemDeleted} touched in the meantime.
+     */
+    public void rebuild() {
+        log.info("Rebuilding in-memory item search index");
+        Map<Long, IndexedItem> rebuiltDocuments = new HashMap<>();
+        Map<String, PostingBuffer> rebuiltPostings = new HashMap<>();
+        Pageable pageable = PageRequest.of(0, rebuildBatchSize, Sort.by("itemId"));
+        Slice<Item> slice;
+        do {
+            slice = itemRepository.findByIsAvailableTrue(pageable);
+            for (Item item : slice) {
+                IndexedItem document = document(item);
+                rebuiltDocuments.put(item.getItemId(), document);
+                for (String token : document.distinctTokens()) {
+                    rebuiltPostings.computeIfAbsent(token, key -> new PostingBuffer()).append(item.getItemId());
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        int indexed = 0;
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, IndexedItem> entry : rebuiltDocuments.entrySet()) {
+                if (!touchedDuringRebuild.contains(entry.getKey())) {
+                    documents.put(entry.getKey(), entry.getValue());
+                    indexed++;
+                }
+            }
+            for (Map.Entry<String, PostingBuffer> entry : rebuiltPostings.entrySet()) {
+                long[] ids = entry.getValue().toArray(touchedDuringRebuild);
+                if (ids.length > 0) {
+                    postings.merge(entry.getKey(), ids, InMemoryItemSearchEngine::union);
+                }
+            }
+            touchedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("In-memory item search index rebuilt: {} items, {} tokens", indexed, postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        if (!ready) {
+            log.debug("Item index is not ready yet, falling back to LIKE search for '{}'", text);
+            return itemRepository.searchItems(text, OffsetPageRequest.of(from, size));
+        }
+
+        String[] queryTokens = tokenize(text);
+        if (queryTokens.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Long> pageIds;
+        lock.readLock().lock();
+        try {
+            long[] candidates = null;
+            for (String token : queryTokens) {
+                long[] matches = prefixMatches(token);
+                candidates = candidates == null ? matches : intersect(candidates, matches);
+                if (candidates.length == 0) {
+                    return Collections.emptyList();
+                }
+            }
+            ScoredId[] scored = new ScoredId[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                scored[i] = new ScoredId(candidates[i], score(documents.get(candidates[i]), queryTokens));
+            }
+            Arrays.sort(scored, BY_SCORE);
+            pageIds = Arrays.stream(scored)
+                    .skip(from)
+                    .limit(size)
+                    .map(ScoredId::itemId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, Item> items = itemRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Item::getItemId, Function.identity()));
+        return pageIds.stream()
+                .map(items::get)
+                .filter(item -> item != null && item.isAvailable())
+                .toList();
+    }
+
+    @Override
+    public void onItemSaved(Item item) {
+        lock.writeLock().lock();
+        try {
+            markTouched(item.getItemId());
+            remove(item.getItemId());
+            if (item.isAvailable()) {
+                index(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onItemDeleted(long itemId) {
+        lock.writeLock().lock();
+        try {
+            markTouched(itemId);
+            remove(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markTouched(long itemId) {
+        if (!ready) {
+            touchedDuringRebuild.add(itemId);
+        }
+    }
+
+    private void index(Item item) {
+        IndexedItem document = document(item);
+        documents.put(item.getItemId(), document);
+        for (String token : document.distinctTokens()) {
+            postings.put(token, insert(postings.getOrDefault(token, EMPTY), item.getItemId()));
+        }
+    }
+
+    private static IndexedItem document(Item item) {
+        return new IndexedItem(tokenize(item.getName()), tokenize(item.getDescription()));
+    }
+
+    private void remove(long itemId) {
+        IndexedItem document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.distinctTokens()) {
+            long[] ids = delete(postings.getOrDefault(token, EMPTY), itemId);
+            if (ids.length == 0) {
+                postings.remove(token);
+            } else {
+                postings.put(token, ids);
+            }
+        }
+    }
+
+    private long[] prefixMatches(String prefix) {
+        long[] result = EMPTY;
+        for (long[] ids : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            result = union(result, ids);
+        }
+        return result;
+    }
+
+    private static int score(IndexedItem document, String[] queryTokens) {
+        int score = 0;
+        for (String queryToken : queryTokens) {
+            score += 2 * countPrefixMatches(document.nameTokens(), queryToken);
+            score += countPrefixMatches(document.descriptionTokens(), queryToken);
+        }
+        return score;
+    }
+
+    private static int countPrefixMatches(String[] tokens, String prefix) {
+        int count = 0;
+        for (String token : tokens) {
+            if (token.startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    static long[] insert(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    static long[] delete(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        System.arraycopy(ids, position + 1, result, position, ids.length - position - 1);
+        return result;
+    }
+
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    static long[] union(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length || j < right.length) {
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                result[k++] = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                result[k++] = right[j++];
+            } else {
+                result[k++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private record ScoredId(long itemId, int score) {
+    }
+
+    /**
+     * Ids of one token collected during a rebuild, appended in ascending order.
+     */
+    static final class PostingBuffer {
+        private long[] ids = new long[4];
+        private int size;
+
+        void append(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toArray(Set<Long> excluded) {
+            if (excluded.isEmpty()) {
+                return Arrays.copyOf(ids, size);
+            }
+            return Arrays.stream(ids, 0, size)
+                    .filter(id -> !excluded.contains(id))
+                    .toArray();
+        }
+    }
+
+    private record IndexedItem(String[] nameTokens, String[] descriptionTokens) {
+        Set<String> distinctTokens() {
+            Set<String> tokens = new HashSet<>(Arrays.asList(nameTokens));
+            tokens.addAll(Arrays.asList(descriptionTokens));
+            return tokens;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Strategy behind {@code GET /items/search}.
+ *
+ * The active implementation is selected with the `shareit.search.engine` property.
+ * Implementations return only available items, ordered by relevance, starting at the `from`
+ * offset and containing at most `size` elements.
+ *
+ * Engines that keep their own index are notified about item changes through
+ * {@link #onItemSaved(Item)} and {@link #onItemDeleted(long)}; database-backed engines ignore them.
+ */
+public interface ItemSearchEngine {
+    List<Item> search(String text, int from, int size);
+
+    default void onItemSaved(Item item) {
+    }
+
+    default void onItemDeleted(long itemId) {
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.OffsetPageRequest;
+
+import java.util.List;
+
+/**
+ * Portable search engine based on JPQL `LIKE` matching.
+ *
+ * Used by the `test` profile, where the H2 database has no full-text or trigram support.
+ * Items with a matching name are ranked above items matching only by description.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "like")
+public class LikeItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        log.debug("LIKE search for '{}', from = {}, size = {}", text, from, size);
+        return itemRepository.searchItems(text, OffsetPageRequest.of(from, size));
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,10 +9,14 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.item.model.Item;
 
 import java.time.LocalDateTime;
@@ -25,6 +30,8 @@ import java.util.Collection;
  * and a collection of items associated with this request.
  *
  * It uses the `@Entity` and `@Table` annotations to define it as a JPA entity mapped to the "requests" table.
+ * It uses the `@Cacheable` and `@Cache` annotations to keep the entity in the Hibernate second-level cache
+ * region "requests" with the `READ_WRITE` strategy, so lookups by id are served without a database round trip.
  * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
  * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
  *
@@ -33,6 +40,8 @@ import java.util.Collection;
  * The `created` field represents the timestamp when the request was created.
  * The `userId` field represents the user who made the request.
  * The `items` field represents a collection of items associated with this request.
+ * The `version` field represents the optimistic lock version of the request, incremented on every update
+ * and used to build the `ETag` of its representation.
  *
  * The `@OneToMany` annotation on the `items` field specifies a one-to-many relationship with the `Item` entity,
  * where the `request` field in the `Item` entity is the owning side of the relationship.
@@ -40,12 +49,15 @@ import java.util.Collection;
  * The fetch type is set to `LAZY`, meaning the items are loaded on-demand.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requests")
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = "requests")
 public class ItemRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_request_id_seq", allocationSize = 50)
     @Column(name = "request_id")
     Long requestId;
 
@@ -58,4 +70,7 @@ public class ItemRequest {
 
     @OneToMany(mappedBy = "request", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     Collection<Item> items = new ArrayList<>();
-}
\ No newline at end of file
+
+    @Version
+    Long version;
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -11,13 +12,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.util.EntityTags;
 import ru.practicum.shareit.util.HeaderConstants;
 import ru.practicum.shareit.util.PathConstants;
 
 import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -34,10 +38,10 @@ public class ItemRequestController {
     }
 
     @GetMapping(PathConstants.REQUEST_ID_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public ItemRequestDto getRequest(@PathVariable("request-id") long requestId) {
+    public ResponseEntity<ItemRequestDto> getRequest(@PathVariable("request-id") long requestId) {
         log.info("Received GET request for request with id: {}", requestId);
-        return requestService.getRequestById(requestId);
+        ItemRequestDto request = requestService.getRequestById(requestId);
+        return ResponseEntity.ok().eTag(EntityTags.of(request)).body(request);
     }
 
     @PostMapping
@@ -66,9 +70,19 @@ public class ItemRequestController {
     }
 
     @GetMapping(PathConstants.REQUESTS_ALL_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public Collection<ItemRequestDto> getAllRequests(@RequestHeader(HeaderConstants.USER_ID_HEADER) long userId) {
-        log.info("Received GET request for all item requests from other users for user with id: {}", userId);
-        return requestService.getAllRequestsExceptUser(userId);
+    public ResponseEntity<Collection<ItemRequestDto>> getAllRequests(
+            @RequestHeader(HeaderConstants.USER_ID_HEADER) long userId,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        log.info("Received GET request for item requests from other users for user with id: {}, from: {}, " +
+                "size: {}, cursor: {}", userId, from, size, cursor);
+        List<ItemRequestDto> requests = List.copyOf(requestService.getAllRequestsExceptUser(
+                userId, ItemRequestCursor.decode(cursor), from, size));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (requests.size() == size) {
+            response.header(HeaderConstants.NEXT_CURSOR_HEADER, ItemRequestCursor.after(requests.getLast()).encode());
+        }
+        return response.body(requests);
     }
 }
\ No newline at end of file
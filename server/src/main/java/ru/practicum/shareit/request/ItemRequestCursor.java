@@ -0,0 +1,46 @@
+package ru.practicum.shareit.request;
+
+import ru.practicum.shareit.exceptions.InvalidCursorException;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Represents a keyset position in a request list ordered by creation time and id, both descending.
+ *
+ * The cursor is handed to clients as an opaque URL-safe string and points at the last request of a page,
+ * so the next page is read with `(created, request_id) < (created, id)` instead of skipping rows with an offset.
+ *
+ * The `created` field represents the creation time of the last request returned.
+ * The `id` field represents the unique identifier of the last request returned.
+ */
+public record ItemRequestCursor(LocalDateTime created, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public static ItemRequestCursor after(ItemRequestDto request) {
+        return new ItemRequestCursor(request.getCreated(), request.getId());
+    }
+
+    public static ItemRequestCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ItemRequestCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = created + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
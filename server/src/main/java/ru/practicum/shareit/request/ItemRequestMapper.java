@@ -3,20 +3,21 @@ package ru.practicum.shareit.request;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ItemRequestMapper {
     public static ItemRequestDto convertToDto(ItemRequest request) {
-        ItemRequestDto requestDto = new ItemRequestDto();
-        requestDto.setId(request.getRequestId());
-        requestDto.setDescription(request.getDescription());
-        requestDto.setCreated(request.getCreated());
+        ItemRequestDto requestDto = convertFields(request);
         requestDto.setItems(request.getItems() != null ?
                 request.getItems().stream()
                         .map(ItemMapper::convertToDto)
@@ -24,6 +25,30 @@ public class ItemRequestMapper {
         return requestDto;
     }
 
+    /**
+     * Maps a request with its items and their comments loaded separately, e.g. in one batch for a whole
+     * list of requests, so neither lazy collection is touched.
+     */
+    public static ItemRequestDto convertToDto(ItemRequest request, Collection<Item> items,
+                                              Map<Long, ? extends Collection<Comment>> commentsByItemId) {
+        ItemRequestDto requestDto = convertFields(request);
+        requestDto.setItems(items != null ?
+                items.stream()
+                        .map(item -> ItemMapper.convertToDto(item, null, null,
+                                commentsByItemId.getOrDefault(item.getItemId(), Collections.emptyList())))
+                        .toList() : Collections.emptyList());
+        return requestDto;
+    }
+
+    private static ItemRequestDto convertFields(ItemRequest request) {
+        ItemRequestDto requestDto = new ItemRequestDto();
+        requestDto.setId(request.getRequestId());
+        requestDto.setDescription(request.getDescription());
+        requestDto.setCreated(request.getCreated());
+        requestDto.setVersion(request.getVersion());
+        return requestDto;
+    }
+
     public static ItemRequest convertToEntity(ItemRequestDto requestDto, User owner) {
         ItemRequest request = new ItemRequest();
         request.setDescription(requestDto.getDescription());
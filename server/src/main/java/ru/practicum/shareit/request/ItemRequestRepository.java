@@ -1,15 +1,36 @@
 package ru.practicum.shareit.request;
 
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     Collection<ItemRequest> findByUserId(Long userId);
 
+    @Query("SELECT r FROM ItemRequest r WHERE r.userId <> :userId " +
+            "ORDER BY r.created DESC, r.requestId DESC")
+    List<ItemRequest> findRequestsOfOtherUsers(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Continues {@link #findRequestsOfOtherUsers} after a keyset cursor. It is a separate query, not an optional
+     * cursor parameter, so that PostgreSQL can seek the `(created DESC, request_id DESC)` index with a generic plan.
+     */
+    @Query("SELECT r FROM ItemRequest r WHERE r.userId <> :userId " +
+            "AND r.created <= :cursorCreated AND (r.created < :cursorCreated OR r.requestId < :cursorId) " +
+            "ORDER BY r.created DESC, r.requestId DESC")
+    List<ItemRequest> findRequestsOfOtherUsersAfter(@Param("userId") Long userId,
+                                                    @Param("cursorCreated") LocalDateTime cursorCreated,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
     @Transactional
     void deleteByUserIdAndRequestId(Long userId, Long requestId);
 }
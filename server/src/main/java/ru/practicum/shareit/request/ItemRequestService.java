@@ -15,5 +15,5 @@ public interface ItemRequestService {
 
     void deleteRequest(long userId, long requestId);
 
-    Collection<ItemRequestDto> getAllRequestsExceptUser(long userId);
+    Collection<ItemRequestDto> getAllRequestsExceptUser(long userId, ItemRequestCursor cursor, int from, int size);
 }
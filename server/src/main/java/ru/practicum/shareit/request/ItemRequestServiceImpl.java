@@ -1,27 +1,43 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.TracingConfig;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Observed(name = TracingConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final UserRepository userRepository;
     private final ItemRequestRepository requestRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public Collection<ItemRequestDto> findByUserId(long userId) {
-        return requestRepository.findByUserId(userId).stream()
-                .map(ItemRequestMapper::convertToDto)
-                .toList();
+        return convertToDtos(List.copyOf(requestRepository.findByUserId(userId)));
     }
 
     @Override
@@ -51,7 +67,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestDto updateRequest(ItemRequestDto requestDto, long userId, long requestId) {
-        log.info("Checking user exists with id: {}", userId);
+        log.debug("Checking user exists with id: {}", userId);
         if (!userRepository.existsById(userId)) {
             throw new NotFoundException(String.format("User with id %s not found", userId));
         }
@@ -62,7 +78,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException(String.format("Request with id %s not found", requestId)));
 
-        log.info("Updating request fields");
+        log.debug("Updating request fields");
         ItemRequestMapper.updateRequestFields(request, requestDto);
 
         ItemRequest updatedRequest = requestRepository.save(request);
@@ -79,11 +95,41 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public Collection<ItemRequestDto> getAllRequestsExceptUser(long userId) {
-        log.info("Fetching all requests except those created by user with id: {}", userId);
-        return requestRepository.findAll().stream()
-                .filter(request -> request.getUserId() != userId)
-                .map(ItemRequestMapper::convertToDto)
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestDto> getAllRequestsExceptUser(long userId, ItemRequestCursor cursor,
+                                                               int from, int size) {
+        log.debug("Fetching requests except those created by user with id: {}, from = {}, size = {}",
+                userId, from, size);
+        List<ItemRequest> requests = cursor == null
+                ? requestRepository.findRequestsOfOtherUsers(userId, OffsetPageRequest.of(from, size))
+                : requestRepository.findRequestsOfOtherUsersAfter(userId, cursor.created(), cursor.id(),
+                        OffsetPageRequest.of(0, size));
+        return convertToDtos(requests);
+    }
+
+    /**
+     * Maps requests together with their items and the items' comments in two more queries, one `IN` query
+     * for the items of all requests and one for the comments of all those items.
+     */
+    private List<ItemRequestDto> convertToDtos(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> requestIds = requests.stream()
+                .map(ItemRequest::getRequestId)
+                .toList();
+        List<Item> items = itemRepository.findByRequestRequestIdIn(requestIds);
+        Map<Long, List<Item>> itemsByRequestId = items.stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getRequestId()));
+
+        Map<Long, List<Comment>> commentsByItemId = items.isEmpty() ? Map.of() :
+                commentRepository.findByItemIdIn(items.stream().map(Item::getItemId).toList()).stream()
+                        .collect(Collectors.groupingBy(comment -> comment.getItem().getItemId()));
+
+        return requests.stream()
+                .map(request -> ItemRequestMapper.convertToDto(request,
+                        itemsByRequestId.getOrDefault(request.getRequestId(), List.of()), commentsByItemId))
                 .toList();
     }
 
@@ -99,7 +145,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                     return new NotFoundException(String.format("Request with id %s not found", requestId));
                 });
 
-        log.info("Item fetched successfully: id = {}, description = {}",
+        log.debug("Request fetched successfully: id = {}, description = {}",
                 fetchedRequest.getRequestId(), fetchedRequest.getDescription());
 
         return fetchedRequest;
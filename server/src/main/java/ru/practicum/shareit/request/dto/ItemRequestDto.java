@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,6 +28,8 @@ import java.util.Collection;
  * The `description` field represents the description of the request.
  * The `created` field represents the timestamp when the request was created.
  * The `items` field represents a collection of item DTOs associated with this request.
+ * The `version` field represents the version of the underlying request entity; it is not serialized
+ * and is only used to build the `ETag` of the response.
  */
 @Data
 @AllArgsConstructor
@@ -38,4 +41,6 @@ public class ItemRequestDto {
     String description;
     LocalDateTime created;
     Collection<ItemDto> items;
-}
\ No newline at end of file
+    @JsonIgnore
+    Long version;
+}
@@ -1,22 +1,29 @@
 package ru.practicum.shareit.user;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a user entity with its essential details.
  *
  * This class includes attributes such as the user's id, name, and email.
  * It uses the `@Entity` and `@Table` annotations to define it as a JPA entity mapped to the "users" table.
+ * It uses the `@Cacheable` and `@Cache` annotations to keep the entity in the Hibernate second-level cache
+ * region "users" with the `READ_WRITE` strategy, so lookups by id are served without a database round trip.
  * It uses the `@Email` validation annotation to ensure that the user's email is a valid email address.
  * It uses the `@Data` annotation to automatically generate boilerplate code like getters, setters, and constructors.
  * It uses the `@FieldDefaults` annotation to set all fields' access level to `private`.
@@ -27,8 +34,12 @@ import lombok.experimental.FieldDefaults;
  * The `userId` field represents the unique identifier of the user, with read-only access and automatically generated.
  * The `name` field represents the name of the user.
  * The `email` field represents the email address of the user and must be a valid email address.
+ * The `version` field represents the optimistic lock version of the user, incremented on every update
+ * and used to build the `ETag` of its representation.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @RequiredArgsConstructor
@@ -36,11 +47,15 @@ import lombok.experimental.FieldDefaults;
 public class User {
     @Id
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_user_id_seq", allocationSize = 50)
     Long userId;
 
     String name;
 
     @Email(message = "Email is not valid")
     String email;
-}
\ No newline at end of file
+
+    @Version
+    Long version;
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.user;
+
+import ru.practicum.shareit.user.dto.UserImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface UserBulkService {
+    UserImportResult importUsers(InputStream ndjson) throws IOException;
+
+    void exportUsers(OutputStream ndjson) throws IOException;
+}
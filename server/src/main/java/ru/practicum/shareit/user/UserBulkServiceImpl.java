@@ -0,0 +1,227 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.TracingConfig;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserImportError;
+import ru.practicum.shareit.user.dto.UserImportResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports and exports users as NDJSON, one JSON object per line, without holding the whole input or table
+ * in memory.
+ *
+ * Imported rows are parsed line by line and written in batches of `batchSize`: one `IN` query finds emails
+ * that are already taken, and the remaining rows are inserted with a single JDBC batch in their own
+ * transaction. If the database still rejects a batch, its rows are retried one by one so only the offending
+ * lines fail. Rows that cannot be parsed, fail validation or clash on email are reported with their line
+ * number instead of failing the whole import.
+ */
+@Slf4j
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Observed(name = TracingConfig.SERVICE_OBSERVATION)
+public class UserBulkServiceImpl implements UserBulkService {
+    private static final String EMAIL_IN_USE = "Email already in use by another user";
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_EMAIL_LENGTH = 355;
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader userReader;
+    private final ObjectWriter userWriter;
+    private final int batchSize;
+    private final int fetchSize;
+
+    public UserBulkServiceImpl(UserJdbcRepository userJdbcRepository,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               @Value("${shareit.users.bulk.batch-size:1000}") int batchSize,
+                               @Value("${shareit.users.bulk.fetch-size:1000}") int fetchSize) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.entityManagerFactory = entityManagerFactory;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.userReader = objectMapper.readerFor(UserDto.class);
+        this.userWriter = objectMapper.writerFor(UserDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public UserImportResult importUsers(InputStream ndjson) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<UserImportError> errors = new ArrayList<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        long lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            UserDto user;
+            try {
+                user = userReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                errors.add(new UserImportError(lineNumber, null, "Malformed JSON"));
+                continue;
+            }
+
+            String violation = validate(user);
+            if (violation != null) {
+                errors.add(new UserImportError(lineNumber, user.getEmail(), violation));
+                continue;
+            }
+
+            batch.add(new ImportRow(lineNumber, user));
+            if (batch.size() == batchSize) {
+                imported += importBatch(batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, errors);
+        }
+
+        log.info("Imported {} users, rejected {} rows", imported, errors.size());
+        return new UserImportResult(imported, errors.size(), errors);
+    }
+
+    @Override
+    public void exportUsers(OutputStream ndjson) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(ndjson)) {
+            readTransaction.executeWithoutResult(status -> userJdbcRepository.forEachUser(fetchSize, row -> {
+                UserDto user = new UserDto(row.getLong("user_id"), row.getString("name"),
+                        row.getString("email"), row.getLong("version"));
+                try {
+                    userWriter.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String validate(UserDto user) {
+        if (user.getName() == null || user.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (user.getEmail() == null || user.getEmail().isEmpty()) {
+            return "Email must be provided";
+        }
+        if (user.getName().length() > MAX_NAME_LENGTH) {
+            return "Name must not be longer than " + MAX_NAME_LENGTH + " characters";
+        }
+        if (user.getEmail().length() > MAX_EMAIL_LENGTH) {
+            return "Email must not be longer than " + MAX_EMAIL_LENGTH + " characters";
+        }
+        Set<ConstraintViolation<UserDto>> violations = validator.validate(user);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private long importBatch(List<ImportRow> batch, List<UserImportError> errors) {
+        Set<String> takenEmails = userJdbcRepository.findExistingEmails(
+                batch.stream().map(row -> row.user().getEmail()).toList());
+        Set<String> batchEmails = new HashSet<>();
+        List<ImportRow> accepted = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            String email = row.user().getEmail();
+            if (takenEmails.contains(email) || !batchEmails.add(email)) {
+                errors.add(new UserImportError(row.line(), email, EMAIL_IN_USE));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        long imported;
+        try {
+            insert(accepted);
+            imported = accepted.size();
+        } catch (DataIntegrityViolationException e) {
+            // The batch was rolled back as a whole, e.g. because another request took one of the emails
+            // after the check; retry its rows one by one so only the offending lines are rejected.
+            log.warn("Bulk insert of {} users was rejected, retrying row by row: {}", accepted.size(),
+                    e.getMostSpecificCause().getMessage());
+            imported = importRowByRow(accepted, errors);
+        }
+
+        if (imported > 0) {
+            // Cached `existsByEmail` results would not see rows inserted behind Hibernate's back.
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        }
+        return imported;
+    }
+
+    private long importRowByRow(List<ImportRow> rows, List<UserImportError> errors) {
+        long imported = 0;
+        for (ImportRow row : rows) {
+            try {
+                insert(List.of(row));
+                imported++;
+            } catch (DataIntegrityViolationException e) {
+                String message = e instanceof DuplicateKeyException ? EMAIL_IN_USE
+                        : e.getMostSpecificCause().getMessage();
+                errors.add(new UserImportError(row.line(), row.user().getEmail(), message));
+            }
+        }
+        return imported;
+    }
+
+    private void insert(List<ImportRow> rows) {
+        writeTransaction.executeWithoutResult(status ->
+                userJdbcRepository.insertAll(rows.stream().map(ImportRow::user).toList()));
+    }
+
+    private record ImportRow(long line, UserDto user) {
+    }
+}
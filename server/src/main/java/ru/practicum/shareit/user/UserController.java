@@ -3,6 +3,8 @@ package ru.practicum.shareit.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -10,12 +12,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserImportResult;
+import ru.practicum.shareit.util.EntityTags;
+import ru.practicum.shareit.util.HeaderConstants;
 import ru.practicum.shareit.util.PathConstants;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -23,19 +33,48 @@ import java.util.Collection;
 @RequestMapping(path = PathConstants.USERS_PATH)
 public class UserController {
     private final UserServiceImpl userService;
+    private final UserBulkService userBulkService;
 
     @GetMapping
+    public ResponseEntity<Collection<UserDto>> getUsers(@RequestParam(defaultValue = "10") int size,
+                                                        @RequestParam(required = false) String cursor) {
+        log.info("Received GET request for users, size: {}, cursor: {}", size, cursor);
+        List<UserDto> users = List.copyOf(userService.getUsers(UserCursor.decode(cursor), size));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (users.size() == size) {
+            response.header(HeaderConstants.NEXT_CURSOR_HEADER, UserCursor.after(users.getLast()).encode());
+        }
+        return response.body(users);
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        log.info("Received GET request to stream all users.");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userService::streamUsers);
+    }
+
+    @GetMapping(path = PathConstants.USERS_EXPORT_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("Received GET request to export all users.");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(userBulkService::exportUsers);
+    }
+
+    @PostMapping(path = PathConstants.USERS_IMPORT_PATH, consumes = MediaType.APPLICATION_NDJSON_VALUE)
     @ResponseStatus(HttpStatus.OK)
-    public Collection<UserDto> getUsers() {
-        log.info("Received GET request for all users.");
-        return userService.getUsers();
+    public UserImportResult importUsers(InputStream ndjson) throws IOException {
+        log.info("Received POST request to import users.");
+        return userBulkService.importUsers(ndjson);
     }
 
     @GetMapping(PathConstants.USER_ID_PATH)
-    @ResponseStatus(HttpStatus.OK)
-    public UserDto getUser(@PathVariable("user-id") Long userId) {
+    public ResponseEntity<UserDto> getUser(@PathVariable("user-id") Long userId) {
         log.info("Received GET request for user by id: {}", userId);
-        return userService.getUserById(userId);
+        UserDto user = userService.getUserById(userId);
+        return ResponseEntity.ok().eTag(EntityTags.of(user)).body(user);
     }
 
     @PostMapping
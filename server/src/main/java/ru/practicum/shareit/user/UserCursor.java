@@ -0,0 +1,39 @@
+package ru.practicum.shareit.user;
+
+import ru.practicum.shareit.exceptions.InvalidCursorException;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Represents a keyset position in the user list ordered by id ascending.
+ *
+ * The cursor is handed to clients as an opaque URL-safe string and points at the last user of a page,
+ * so the next page is read with `user_id > id` instead of skipping rows with an offset.
+ *
+ * The `id` field represents the unique identifier of the last user returned.
+ */
+public record UserCursor(Long id) {
+    public static UserCursor after(UserDto user) {
+        return new UserCursor(user.getId());
+    }
+
+    public static UserCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            return new UserCursor(Long.parseLong(decoded));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
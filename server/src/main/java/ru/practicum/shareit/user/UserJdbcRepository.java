@@ -0,0 +1,92 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC access to the `users` table for bulk import and export, where loading `User` entities through
+ * the persistence context would cost an insert round trip or a managed entity per row.
+ *
+ * Statements issued here bypass Hibernate, so callers evict the query cache after writing.
+ *
+ * Inserted rows get their ids the way Hibernate's pooled-lo optimizer assigns them: the id sequence advances
+ * by `ID_BLOCK_SIZE`, so one `nextval` reserves ids for that many rows. Taking the column default instead
+ * would spend a whole block per row.
+ */
+@Repository
+public class UserJdbcRepository {
+    /**
+     * Must match the `INCREMENT BY` of the sequence and the `allocationSize` of {@link User}.
+     */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String USER_ID_SEQUENCE = "users_user_id_seq";
+    private static final String INSERT_USER = "INSERT INTO users (user_id, name, email, version) VALUES (?, ?, ?, 0)";
+    private static final String SELECT_USERS = "SELECT user_id, name, email, version FROM users ORDER BY user_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataFieldMaxValueIncrementer userIds;
+
+    public UserJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userIds = userIdIncrementer(jdbcTemplate.getJdbcTemplate());
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT email FROM users WHERE email IN (:emails)",
+                Map.of("emails", emails), String.class));
+    }
+
+    public void insertAll(List<UserDto> users) {
+        List<Object[]> rows = new ArrayList<>(users.size());
+        long blockStart = 0;
+        for (int i = 0; i < users.size(); i++) {
+            if (i % ID_BLOCK_SIZE == 0) {
+                blockStart = userIds.nextLongValue();
+            }
+            UserDto user = users.get(i);
+            rows.add(new Object[]{blockStart + i % ID_BLOCK_SIZE, user.getName(), user.getEmail()});
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_USER, rows);
+    }
+
+    /**
+     * Passes every user to `handler` in id order while reading `fetchSize` rows per round trip, so the table
+     * is never held in memory. PostgreSQL only honours the fetch size inside a transaction.
+     */
+    public void forEachUser(int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_USERS);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler);
+    }
+
+    private static DataFieldMaxValueIncrementer userIdIncrementer(JdbcTemplate jdbcTemplate) {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "H2".equals(database)
+                ? new H2SequenceMaxValueIncrementer(dataSource, USER_ID_SEQUENCE)
+                : new PostgresSequenceMaxValueIncrementer(dataSource, USER_ID_SEQUENCE);
+    }
+}
@@ -12,6 +12,7 @@ public final class UserMapper {
         userDto.setId(user.getUserId());
         userDto.setName(user.getName());
         userDto.setEmail(user.getEmail());
+        userDto.setVersion(user.getVersion());
         return userDto;
     }
 
@@ -2,10 +2,14 @@ package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 
 public interface UserService {
-    Collection<UserDto> getUsers();
+    Collection<UserDto> getUsers(UserCursor cursor, int size);
+
+    void streamUsers(OutputStream target) throws IOException;
 
     UserDto getUserById(Long userId);
 
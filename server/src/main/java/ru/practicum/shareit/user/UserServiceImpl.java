@@ -1,25 +1,68 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.MetricsConfig;
+import ru.practicum.shareit.config.TracingConfig;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Observed(name = TracingConfig.SERVICE_OBSERVATION)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
-    public Collection<UserDto> getUsers() {
-        return userRepository.findAll().stream()
+    public Collection<UserDto> getUsers(UserCursor cursor, int size) {
+        log.debug("Fetching users after cursor = {}, size = {}", cursor, size);
+        return userRepository.findByUserIdGreaterThanOrderByUserIdAsc(cursor == null ? 0L : cursor.id(),
+                        PageRequest.of(0, size)).stream()
                 .map(UserMapper::convertToDto)
                 .toList();
     }
 
+    /**
+     * Writes all users to `target` as one JSON array, element by element, while they are read from the
+     * database. Each user is detached once written, so neither the persistence context nor the response
+     * grows with the size of the table.
+     */
+    @Transactional(readOnly = true)
+    public void streamUsers(OutputStream target) throws IOException {
+        ObjectWriter userWriter = objectMapper.writerFor(UserDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<User> users = userRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            generator.writeStartArray();
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                userWriter.writeValue(generator, UserMapper.convertToDto(user));
+                entityManager.detach(user);
+            }
+            generator.writeEndArray();
+        }
+    }
+
     public UserDto getUserById(Long userId) {
         User user = fetchUserById(userId);
 
@@ -28,13 +71,13 @@ public class UserServiceImpl implements UserService {
 
     public UserDto createUser(UserDto userDto) {
         validateEmail(userDto.getEmail());
-        log.info("Creating user: {}", userDto);
+        log.debug("Creating user: {}", userDto);
         User user = UserMapper.convertToEntity(userDto);
         User createdUser = userRepository.save(user);
         log.info("User saved in DB: id={}, name={}, email={}",
                 createdUser.getUserId(), createdUser.getName(), createdUser.getEmail());
         UserDto result = UserMapper.convertToDto(createdUser);
-        log.info("Returning UserDto: {}", result);
+        log.debug("Returning UserDto: {}", result);
         return result;
     }
 
@@ -44,11 +87,11 @@ public class UserServiceImpl implements UserService {
 
         if (userDto.getEmail() != null &&
                 (existingUser.getEmail() == null || !existingUser.getEmail().equals(userDto.getEmail()))) {
-            log.info("Validating email: {}", userDto.getEmail());
+            log.debug("Validating email: {}", userDto.getEmail());
             validateEmail(userDto.getEmail());
         }
 
-        log.info("Updating user fields");
+        log.debug("Updating user fields");
         UserMapper.updateUserFields(existingUser, userDto);
 
         User updatedUser = userRepository.save(existingUser);
@@ -86,7 +129,7 @@ public class UserServiceImpl implements UserService {
                     return new NotFoundException(String.format("User with id %s not found", userId));
                 });
 
-        log.info("User fetched successfully: id = {}, name = {}, email = {}",
+        log.debug("User fetched successfully: id = {}, name = {}, email = {}",
                 fetchedUser.getUserId(), fetchedUser.getName(), fetchedUser.getEmail());
 
         return fetchedUser;
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,6 +19,8 @@ import lombok.experimental.FieldDefaults;
  * The `id` field represents the unique identifier of the user.
  * The `name` field represents the name of the user.
  * The `email` field represents the email address of the user and is validated to ensure it is a valid email address.
+ * The `version` field represents the version of the underlying user entity; it is not serialized
+ * and is only used to build the `ETag` of the response.
  */
 @Data
 @AllArgsConstructor
@@ -28,4 +31,6 @@ public class UserDto {
     String name;
     @Email(message = "Email is not valid")
     String email;
-}
\ No newline at end of file
+    @JsonIgnore
+    Long version;
+}
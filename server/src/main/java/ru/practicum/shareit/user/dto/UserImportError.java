@@ -0,0 +1,11 @@
+package ru.practicum.shareit.user.dto;
+
+/**
+ * Represents a row of a bulk user import that was not imported.
+ *
+ * The `line` field represents the 1-based line number of the row in the NDJSON input.
+ * The `email` field represents the email of the row, or `null` when the row could not be parsed.
+ * The `message` field represents the reason the row was rejected.
+ */
+public record UserImportError(long line, String email, String message) {
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.user.dto;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a bulk user import.
+ *
+ * The `imported` field represents the number of users inserted.
+ * The `failed` field represents the number of rows rejected.
+ * The `errors` field represents the rejected rows, each with its line number and reason.
+ */
+public record UserImportResult(long imported, long failed, List<UserImportError> errors) {
+}
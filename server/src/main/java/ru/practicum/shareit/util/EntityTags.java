@@ -0,0 +1,73 @@
+package ru.practicum.shareit.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds strong `ETag` values for single-resource representations from the `@Version` columns of the
+ * entities they are made of, so a conditional GET is answered without serializing the body.
+ *
+ * Parts of a representation that are not covered by a version (the bookings and comments shown with an item)
+ * are added by id, together with the comment author names that are rendered with them. Items embedded in a
+ * booking or a request contribute the same parts as the item on its own.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EntityTags {
+    private static final char SEPARATOR = '|';
+
+    public static String of(UserDto user) {
+        return tag(new StringBuilder().append(user.getVersion()));
+    }
+
+    public static String of(ItemDto item) {
+        return tag(appendItem(new StringBuilder(), item));
+    }
+
+    public static String of(BookingDto booking) {
+        StringBuilder parts = new StringBuilder().append(booking.getVersion()).append(SEPARATOR);
+        if (booking.getItem() != null) {
+            appendItem(parts, booking.getItem());
+        }
+        return tag(parts.append(SEPARATOR)
+                .append(booking.getBooker() != null ? booking.getBooker().getVersion() : null));
+    }
+
+    public static String of(ItemRequestDto request) {
+        StringBuilder parts = new StringBuilder().append(request.getVersion());
+        if (request.getItems() != null) {
+            for (ItemDto item : request.getItems()) {
+                appendItem(parts.append(SEPARATOR).append(item.getId()).append(':'), item);
+            }
+        }
+        return tag(parts);
+    }
+
+    private static StringBuilder appendItem(StringBuilder parts, ItemDto item) {
+        parts.append(item.getVersion())
+                .append(SEPARATOR).append(bookingId(item.getLastBooking()))
+                .append(SEPARATOR).append(bookingId(item.getNextBooking()));
+        if (item.getComments() != null) {
+            for (CommentDto comment : item.getComments()) {
+                parts.append(SEPARATOR).append(comment.getId()).append(':').append(comment.getAuthorName());
+            }
+        }
+        return parts;
+    }
+
+    private static Long bookingId(BookingShortDto booking) {
+        return booking != null ? booking.getId() : null;
+    }
+
+    private static String tag(StringBuilder parts) {
+        return "\"" + DigestUtils.md5DigestAsHex(parts.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Escapes user input that is embedded in a `LIKE` or `ILIKE` pattern declared with `ESCAPE '!'`, so `%`
+ * and `_` in a search text match themselves instead of acting as wildcards.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LikePatterns {
+    public static String escape(String text) {
+        return text.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+}
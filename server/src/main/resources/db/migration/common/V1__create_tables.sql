@@ -1,9 +1,3 @@
-DROP TABLE IF EXISTS users CASCADE;
-DROP TABLE IF EXISTS items CASCADE;
-DROP TABLE IF EXISTS comments CASCADE;
-DROP TABLE IF EXISTS bookings CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
-
 CREATE TABLE IF NOT EXISTS users (
     user_id SERIAL PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
@@ -16,9 +10,7 @@ CREATE TABLE IF NOT EXISTS items (
     description TEXT,
     is_available BOOLEAN,
     owner_id BIGINT,
-    request_id BIGINT,
-    last_booking_id BIGINT,
-    next_booking_id BIGINT
+    request_id BIGINT
     );
 
 CREATE TABLE IF NOT EXISTS comments (
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS requests_created_idx ON requests (created DESC, request_id DESC);
+
+CREATE INDEX IF NOT EXISTS items_request_idx ON items (request_id);
@@ -0,0 +1,31 @@
+-- H2 creates SERIAL columns as identities without a named sequence. Give each table the sequence the
+-- entities allocate ids from in blocks of 50 (pooled-lo), and use it as the column default for plain inserts.
+CREATE SEQUENCE IF NOT EXISTS users_user_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN user_id DROP IDENTITY;
+
+ALTER TABLE users ALTER COLUMN user_id SET DEFAULT NEXT VALUE FOR users_user_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS items_item_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE items ALTER COLUMN item_id DROP IDENTITY;
+
+ALTER TABLE items ALTER COLUMN item_id SET DEFAULT NEXT VALUE FOR items_item_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS comments_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE comments ALTER COLUMN id SET DEFAULT NEXT VALUE FOR comments_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS bookings_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE bookings ALTER COLUMN id SET DEFAULT NEXT VALUE FOR bookings_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS requests_request_id_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE requests ALTER COLUMN request_id DROP IDENTITY;
+
+ALTER TABLE requests ALTER COLUMN request_id SET DEFAULT NEXT VALUE FOR requests_request_id_seq;
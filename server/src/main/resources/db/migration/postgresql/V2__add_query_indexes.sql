@@ -0,0 +1,25 @@
+DROP INDEX CONCURRENTLY IF EXISTS bookings_booker_start_idx;
+CREATE INDEX CONCURRENTLY bookings_booker_start_idx ON bookings (booker_id, start_time DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS bookings_item_start_idx;
+CREATE INDEX CONCURRENTLY bookings_item_start_idx ON bookings (item_id, start_time);
+
+DROP INDEX CONCURRENTLY IF EXISTS bookings_item_end_idx;
+CREATE INDEX CONCURRENTLY bookings_item_end_idx ON bookings (item_id, end_time);
+
+DROP INDEX CONCURRENTLY IF EXISTS bookings_booker_waiting_idx;
+CREATE INDEX CONCURRENTLY bookings_booker_waiting_idx ON bookings (booker_id, start_time DESC, id DESC)
+    WHERE status = 'WAITING';
+
+DROP INDEX CONCURRENTLY IF EXISTS bookings_item_waiting_idx;
+CREATE INDEX CONCURRENTLY bookings_item_waiting_idx ON bookings (item_id, start_time DESC, id DESC)
+    WHERE status = 'WAITING';
+
+DROP INDEX CONCURRENTLY IF EXISTS items_owner_idx;
+CREATE INDEX CONCURRENTLY items_owner_idx ON items (owner_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS comments_item_idx;
+CREATE INDEX CONCURRENTLY comments_item_idx ON comments (item_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS requests_user_idx;
+CREATE INDEX CONCURRENTLY requests_user_idx ON requests (user_id);
@@ -0,0 +1,13 @@
+-- Approvals did not check for overlaps before V5, so existing APPROVED bookings of an item may collide and the
+-- exclusion constraint could not be added. Of every overlapping pair the booking with the higher id is rejected.
+-- This is deterministic and leaves no overlaps behind, though in a chain of overlaps it may reject a booking that
+-- would only have collided with another rejected one.
+UPDATE bookings b
+SET status = 'REJECTED'
+WHERE b.status = 'APPROVED'
+  AND EXISTS (SELECT 1
+              FROM bookings earlier
+              WHERE earlier.item_id = b.item_id
+                AND earlier.status = 'APPROVED'
+                AND earlier.id < b.id
+                AND tsrange(earlier.start_time, earlier.end_time) && tsrange(b.start_time, b.end_time));
@@ -0,0 +1,14 @@
+DROP INDEX CONCURRENTLY IF EXISTS items_search_tsv_idx;
+CREATE INDEX CONCURRENTLY items_search_tsv_idx ON items
+    USING GIN (to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(description, '')))
+    WHERE is_available = true;
+
+DROP INDEX CONCURRENTLY IF EXISTS items_name_trgm_idx;
+CREATE INDEX CONCURRENTLY items_name_trgm_idx ON items
+    USING GIN (name gin_trgm_ops)
+    WHERE is_available = true;
+
+DROP INDEX CONCURRENTLY IF EXISTS items_description_trgm_idx;
+CREATE INDEX CONCURRENTLY items_description_trgm_idx ON items
+    USING GIN (description gin_trgm_ops)
+    WHERE is_available = true;
@@ -0,0 +1,9 @@
+-- Adding an exclusion constraint builds its gist index while holding an ACCESS EXCLUSIVE lock on bookings, so
+-- every read and write of bookings waits until the build finishes. Exclusion constraints can be neither added
+-- NOT VALID nor attached to an index built CONCURRENTLY, so on a large table run this in a maintenance window.
+-- V4_1 rejects the overlapping approved bookings that would otherwise make it fail.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_approved_no_overlap
+    EXCLUDE USING gist (item_id WITH =, tsrange(start_time, end_time) WITH &&)
+    WHERE (status = 'APPROVED');
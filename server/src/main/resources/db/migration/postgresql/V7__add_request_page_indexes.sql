@@ -0,0 +1,5 @@
+DROP INDEX CONCURRENTLY IF EXISTS requests_created_idx;
+CREATE INDEX CONCURRENTLY requests_created_idx ON requests (created DESC, request_id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS items_request_idx;
+CREATE INDEX CONCURRENTLY items_request_idx ON items (request_id);
@@ -0,0 +1,10 @@
+-- Hibernate allocates ids in blocks of 50 (pooled-lo), so the SERIAL sequences hand out one block per call.
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE items_item_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE comments_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE requests_request_id_seq INCREMENT BY 50;
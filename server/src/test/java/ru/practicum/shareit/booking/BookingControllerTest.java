@@ -26,6 +26,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,16 +50,16 @@ class BookingControllerTest {
         bookingDto.setEndTime(LocalDateTime.now().plusDays(2));
         bookingDto.setItemId(1L);
         bookingDto.setStatus(BookingStatus.WAITING);
-        bookingDto.setBooker(new UserDto(1L, "John", "john@example.com"));
+        bookingDto.setBooker(new UserDto(1L, "John", "john@example.com", null));
         bookingDto.setItem(new ItemDto(
                 1L, "Hammer", "A hammer",
-                true, 2L, null, null, null, null));
+                true, 2L, null, null, null, null, null));
     }
 
     @Test
     void getBookingsByBookerId() throws Exception {
         long bookerId = 1L;
-        when(bookingService.getBookingsByBookerIdAndState(bookerId, BookingState.ALL))
+        when(bookingService.getBookingsByBookerIdAndState(bookerId, BookingState.ALL, null, 0, 10))
                 .thenReturn(Collections.singletonList(bookingDto));
 
         mockMvc.perform(get("/bookings")
@@ -66,20 +67,50 @@ class BookingControllerTest {
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HeaderConstants.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].start").exists());
     }
 
+    @Test
+    void getBookingsByBookerIdWithCursor() throws Exception {
+        long bookerId = 1L;
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 7L);
+        when(bookingService.getBookingsByBookerIdAndState(bookerId, BookingState.PAST, cursor, 0, 1))
+                .thenReturn(Collections.singletonList(bookingDto));
+
+        mockMvc.perform(get("/bookings")
+                        .header(HeaderConstants.USER_ID_HEADER, bookerId)
+                        .param("state", "PAST")
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HeaderConstants.NEXT_CURSOR_HEADER,
+                        BookingCursor.after(bookingDto).encode()))
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
+    @Test
+    void getBookingsByBookerIdWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header(HeaderConstants.USER_ID_HEADER, 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getBookingsByOwnerId() throws Exception {
         long ownerId = 2L;
-        when(bookingService.getBookingsByOwnerId(ownerId))
+        when(bookingService.getBookingsByOwnerIdAndState(ownerId, BookingState.FUTURE, null, 0, 1))
                 .thenReturn(Collections.singletonList(bookingDto));
 
         mockMvc.perform(get("/bookings/owner")
-                        .header(HeaderConstants.USER_ID_HEADER, ownerId))
+                        .header(HeaderConstants.USER_ID_HEADER, ownerId)
+                        .param("state", "future")
+                        .param("size", "1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HeaderConstants.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].id").value(1L));
     }
 
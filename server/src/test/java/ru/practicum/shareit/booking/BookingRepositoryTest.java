@@ -5,16 +5,22 @@ import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,25 +71,101 @@ class BookingRepositoryTest {
 
     @Test
     void findByBookerId() {
-        Collection<Booking> result = bookingRepository.findByBooker_UserId(booker.getUserId());
+        Collection<Booking> result = bookingRepository.findBookingsByBookerId(booker.getUserId(), PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals(booking.getId(), result.iterator().next().getId());
     }
 
+    @Test
+    void findBookingsByBookerIdPagesWithKeysetCursor() {
+        LocalDateTime base = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        Booking first = persistBooking(item, base.plusDays(3), base.plusDays(4));
+        Booking secondTie = persistBooking(item, base.plusDays(2), base.plusDays(3));
+        Booking thirdTie = persistBooking(item, base.plusDays(2), base.plusDays(3));
+        entityManager.flush();
+
+        List<Booking> firstPage = bookingRepository.findBookingsByBookerId(
+                booker.getUserId(), PageRequest.of(0, 2));
+        Booking last = firstPage.getLast();
+        List<Booking> secondPage = bookingRepository.findBookingsByBookerIdAfter(
+                booker.getUserId(), last.getStartTime(), last.getId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(first.getId(), thirdTie.getId()), firstPage.stream().map(Booking::getId).toList());
+        assertEquals(List.of(secondTie.getId(), booking.getId()), secondPage.stream().map(Booking::getId).toList());
+    }
+
+    @Test
+    void findBookingsByBookerIdPagesWithOffset() {
+        Booking future = persistBooking(item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        entityManager.flush();
+
+        List<Booking> secondPage = bookingRepository.findBookingsByBookerId(
+                booker.getUserId(), PageRequest.of(1, 1));
+
+        assertEquals(1, secondPage.size());
+        assertEquals(booking.getId(), secondPage.getFirst().getId());
+        assertNotEquals(future.getId(), secondPage.getFirst().getId());
+    }
+
+    @Test
+    void existsApprovedOverlap() {
+        LocalDateTime base = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.SECONDS);
+        Booking approved = persistBooking(item, base, base.plusDays(1));
+        Booking waiting = persistBooking(item, base.plusDays(5), base.plusDays(6));
+        waiting.setStatus(BookingStatus.WAITING);
+        entityManager.flush();
+
+        assertTrue(bookingRepository.existsApprovedOverlap(item.getItemId(),
+                LocalDateTime.now().minusMinutes(30), LocalDateTime.now().plusMinutes(30)));
+        assertTrue(bookingRepository.existsApprovedOverlap(item.getItemId(),
+                base.minusHours(1), base.plusHours(1)));
+        assertFalse(bookingRepository.existsApprovedOverlap(item.getItemId(),
+                approved.getEndTime(), approved.getEndTime().plusHours(1)));
+        assertFalse(bookingRepository.existsApprovedOverlap(item.getItemId(),
+                waiting.getStartTime(), waiting.getEndTime()));
+    }
+
     @Test
     void findByItemOwnerId() {
-        Collection<Booking> result = bookingRepository.findByItem_OwnerId(owner.getUserId());
+        Collection<Booking> result = bookingRepository.findBookingsByOwnerId(
+                owner.getUserId(), PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals(booking.getId(), result.iterator().next().getId());
+        assertTrue(bookingRepository.findBookingsByOwnerId(
+                booker.getUserId(), PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void findBookingsByOwnerIdFiltersByStateAndCursor() {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking pastApproved = persistBooking(item, base.minusDays(3), base.minusDays(2));
+        Booking pastWaiting = persistBooking(item, base.minusDays(5), base.minusDays(4));
+        pastWaiting.setStatus(BookingStatus.WAITING);
+        entityManager.flush();
+
+        List<Booking> past = bookingRepository.findPastBookingsByOwnerId(
+                owner.getUserId(), base, PageRequest.of(0, 10));
+        List<Booking> pastAfterCursor = bookingRepository.findPastBookingsByOwnerIdAfter(
+                owner.getUserId(), base, pastApproved.getStartTime(), pastApproved.getId(), PageRequest.of(0, 10));
+        List<Booking> waiting = bookingRepository.findBookingsByOwnerIdAndStatus(
+                owner.getUserId(), BookingStatus.WAITING, PageRequest.of(0, 10));
+        List<Booking> current = bookingRepository.findCurrentBookingsByOwnerId(
+                owner.getUserId(), LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertEquals(List.of(pastApproved.getId(), pastWaiting.getId()), past.stream().map(Booking::getId).toList());
+        assertEquals(List.of(pastWaiting.getId()), pastAfterCursor.stream().map(Booking::getId).toList());
+        assertEquals(List.of(pastWaiting.getId()), waiting.stream().map(Booking::getId).toList());
+        assertEquals(List.of(booking.getId()), current.stream().map(Booking::getId).toList());
     }
 
     @Test
     void findByBookerIdAndStatus() {
-        Collection<Booking> result = bookingRepository.findByBooker_UserIdAndStatus(booker.getUserId(), BookingStatus.APPROVED);
+        Collection<Booking> result = bookingRepository.findBookingsByBookerIdAndStatus(
+                booker.getUserId(), BookingStatus.APPROVED, PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
@@ -92,7 +174,8 @@ class BookingRepositoryTest {
 
     @Test
     void findCurrentBookingsByBookerId() {
-        Collection<Booking> result = bookingRepository.findCurrentBookingsByBookerId(booker.getUserId(), LocalDateTime.now());
+        Collection<Booking> result = bookingRepository.findCurrentBookingsByBookerId(
+                booker.getUserId(), LocalDateTime.now(), PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
@@ -111,7 +194,7 @@ class BookingRepositoryTest {
         entityManager.flush();
 
         Collection<Booking> result = bookingRepository.findPastBookingsByBookerId(
-                booker.getUserId(), LocalDateTime.now());
+                booker.getUserId(), LocalDateTime.now(), PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
@@ -130,7 +213,7 @@ class BookingRepositoryTest {
         entityManager.flush();
 
         Collection<Booking> result = bookingRepository.findFutureBookingsByBookerId(
-                booker.getUserId(), LocalDateTime.now());
+                booker.getUserId(), LocalDateTime.now(), PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
@@ -138,51 +221,57 @@ class BookingRepositoryTest {
     }
 
     @Test
-    void findLastBookingForItem() {
-        Booking pastBooking = new Booking();
-        pastBooking.setBooker(booker);
-        pastBooking.setItem(item);
-        pastBooking.setStartTime(LocalDateTime.now().minusDays(2));
-        pastBooking.setEndTime(LocalDateTime.now().minusDays(1));
-        pastBooking.setStatus(BookingStatus.APPROVED);
-        entityManager.persist(pastBooking);
+    void findWindowsByItemId() {
+        Booking rejected = persistBooking(item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        rejected.setStatus(BookingStatus.REJECTED);
+        Booking waiting = persistBooking(item, LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4));
+        waiting.setStatus(BookingStatus.WAITING);
         entityManager.flush();
 
-        Booking result = bookingRepository.findLastBookingForItem(item.getItemId());
+        Map<Long, BookingWindow> result = bookingRepository.findWindowsByItemId(item.getItemId()).stream()
+                .collect(Collectors.toMap(BookingWindow::id, Function.identity()));
 
-        assertNotNull(result);
-        assertEquals(pastBooking.getId(), result.getId());
+        assertEquals(2, result.size());
+        assertEquals(BookingStatus.APPROVED, result.get(booking.getId()).status());
+        assertEquals(BookingStatus.WAITING, result.get(waiting.getId()).status());
+        assertEquals(booker.getUserId(), result.get(waiting.getId()).bookerId());
+        assertFalse(result.containsKey(rejected.getId()));
     }
 
     @Test
-    @DirtiesContext
-    @Transactional
-    void findNextBookingForItem() {
-        entityManager.createQuery("DELETE FROM Booking b WHERE b.item.itemId = :itemId")
-                .setParameter("itemId", item.getItemId())
-                .executeUpdate();
+    void findLastAndNextBookingsForOwnerItems() {
+        Item secondItem = new Item();
+        secondItem.setName("Drill");
+        secondItem.setDescription("A drill");
+        secondItem.setAvailable(true);
+        secondItem.setOwnerId(owner.getUserId());
+        entityManager.persist(secondItem);
+
+        Booking olderPast = persistBooking(item, LocalDateTime.now().minusDays(4), LocalDateTime.now().minusDays(3));
+        Booking latestPast = persistBooking(item, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+        Booking secondItemPast = persistBooking(secondItem,
+                LocalDateTime.now().minusDays(5), LocalDateTime.now().minusDays(4));
+        Booking nearestFuture = persistBooking(item, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        persistBooking(item, LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4));
         entityManager.flush();
-        entityManager.clear();
 
-        Booking futureBooking = new Booking();
-        futureBooking.setBooker(booker);
-        futureBooking.setItem(item);
-        futureBooking.setStartTime(LocalDateTime.now().plusDays(1));
-        futureBooking.setEndTime(LocalDateTime.now().plusDays(2));
-        futureBooking.setStatus(BookingStatus.APPROVED);
-        entityManager.persist(futureBooking);
-        entityManager.flush();
-
-        List<Booking> allBookings = entityManager.createQuery(
-                "SELECT b FROM Booking b WHERE b.item.itemId = :itemId", Booking.class)
-                .setParameter("itemId", item.getItemId())
-                .getResultList();
-        System.out.println("All bookings after setup: " + allBookings);
-
-        Booking result = bookingRepository.findNextBookingForItem(item.getItemId());
-
-        assertNotNull(result);
-        assertEquals(futureBooking.getId(), result.getId());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ItemBookingView> last = bookingRepository.findLastBookingsForOwnerItems(owner.getUserId(), now)
+                .stream()
+                .collect(Collectors.toMap(ItemBookingView::getItemId, Function.identity()));
+        List<ItemBookingView> next = bookingRepository.findNextBookingsForOwnerItems(owner.getUserId(), now);
+
+        assertEquals(2, last.size());
+        assertEquals(latestPast.getId(), last.get(item.getItemId()).getId());
+        assertEquals(booker.getUserId(), last.get(item.getItemId()).getBookerId());
+        assertEquals(secondItemPast.getId(), last.get(secondItem.getItemId()).getId());
+        assertNotNull(last.get(item.getItemId()).getEndTime());
+        assertNotEquals(olderPast.getId(), last.get(item.getItemId()).getId());
+
+        assertEquals(1, next.size());
+        assertEquals(nearestFuture.getId(), next.getFirst().getId());
+        assertEquals(item.getItemId(), next.getFirst().getItemId());
+        assertTrue(bookingRepository.findLastBookingsForOwnerItems(booker.getUserId(), now).isEmpty());
     }
 
     @Test
@@ -194,4 +283,15 @@ class BookingRepositoryTest {
         assertEquals(1, result.size());
         assertEquals(booking.getId(), result.getFirst().getId());
     }
-}
\ No newline at end of file
+
+    private Booking persistBooking(Item bookedItem, LocalDateTime start, LocalDateTime end) {
+        Booking newBooking = new Booking();
+        newBooking.setBooker(booker);
+        newBooking.setItem(bookedItem);
+        newBooking.setStartTime(start);
+        newBooking.setEndTime(end);
+        newBooking.setStatus(BookingStatus.APPROVED);
+        entityManager.persist(newBooking);
+        return newBooking;
+    }
+}
@@ -1,32 +1,52 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.aop.MeterTagAnnotationHandler;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.config.MetricsConfig;
 import ru.practicum.shareit.enums.BookingState;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
+import ru.practicum.shareit.item.CommentRepository;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
+import java.time.Duration;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BookingServiceImplTest {
@@ -43,6 +63,12 @@ class BookingServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ItemAvailabilityService itemAvailabilityService;
+
     private User booker;
     private User owner;
     private Item item;
@@ -96,20 +122,77 @@ class BookingServiceImplTest {
     void getBookingsByOwnerId() {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
             when(userRepository.existsById(2L)).thenReturn(true);
-            when(bookingRepository.findByItem_OwnerId(2L)).thenReturn(Collections.singletonList(booking));
-            mapper.when(() -> BookingMapper.convertToDto(booking)).thenReturn(bookingDto);
+            when(bookingRepository.findBookingsByOwnerId(2L, OffsetPageRequest.of(0, 10)))
+                    .thenReturn(Collections.singletonList(booking));
+            Comment comment = new Comment();
+            comment.setId(7L);
+            comment.setItem(item);
+            when(commentRepository.findByItemIdIn(List.of(1L))).thenReturn(List.of(comment));
+            mapper.when(() -> BookingMapper.convertToDto(booking, List.of(comment))).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByOwnerId(2L);
+            Collection<BookingDto> result = bookingService.getBookingsByOwnerIdAndState(
+                    2L, BookingState.ALL, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
+            verify(commentRepository).findByItemIdIn(List.of(1L));
+        }
+    }
+
+    @Test
+    void getWaitingBookingsByOwnerIdAfterCursor() {
+        try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
+            BookingCursor cursor = new BookingCursor(fixedTime, 3L);
+            when(userRepository.existsById(2L)).thenReturn(true);
+            when(bookingRepository.findBookingsByOwnerIdAndStatusAfter(
+                    2L, BookingStatus.WAITING, fixedTime, 3L, OffsetPageRequest.of(0, 5)))
+                    .thenReturn(Collections.singletonList(booking));
+            mapper.when(() -> BookingMapper.convertToDto(booking, List.of())).thenReturn(bookingDto);
+
+            Collection<BookingDto> result = bookingService.getBookingsByOwnerIdAndState(
+                    2L, BookingState.WAITING, cursor, 10, 5);
+
+            assertEquals(1, result.size());
+        }
+    }
+
+    @Test
+    void getBookingsByOwnerIdStartsAtRowOffset() {
+        try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
+            when(userRepository.existsById(2L)).thenReturn(true);
+            when(bookingRepository.findBookingsByOwnerId(2L, OffsetPageRequest.of(5, 10)))
+                    .thenReturn(Collections.singletonList(booking));
+            mapper.when(() -> BookingMapper.convertToDto(booking, List.of())).thenReturn(bookingDto);
+
+            Collection<BookingDto> result = bookingService.getBookingsByOwnerIdAndState(
+                    2L, BookingState.ALL, null, 5, 10);
+
+            assertEquals(1, result.size());
+        }
+    }
+
+    @Test
+    void getPastBookingsByOwnerId() {
+        try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class);
+             MockedStatic<LocalDateTime> localDateTime = mockStatic(LocalDateTime.class)) {
+            localDateTime.when(LocalDateTime::now).thenReturn(fixedTime);
+            when(userRepository.existsById(2L)).thenReturn(true);
+            when(bookingRepository.findPastBookingsByOwnerId(2L, fixedTime, OffsetPageRequest.of(0, 10)))
+                    .thenReturn(Collections.singletonList(booking));
+            mapper.when(() -> BookingMapper.convertToDto(booking, List.of())).thenReturn(bookingDto);
+
+            Collection<BookingDto> result = bookingService.getBookingsByOwnerIdAndState(
+                    2L, BookingState.PAST, null, 0, 10);
+
+            assertEquals(1, result.size());
         }
     }
 
     @Test
     void getBookingsByOwnerIdNotFoundError() {
         when(userRepository.existsById(2L)).thenReturn(false);
-        assertThrows(NotFoundException.class, () -> bookingService.getBookingsByOwnerId(2L));
+        assertThrows(NotFoundException.class, () -> bookingService.getBookingsByOwnerIdAndState(
+                2L, BookingState.ALL, null, 0, 10));
     }
 
     @Test
@@ -117,6 +200,8 @@ class BookingServiceImplTest {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
             when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
             when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+            when(itemAvailabilityService.isAvailable(1L, bookingDto.getStartTime(), bookingDto.getEndTime()))
+                    .thenReturn(true);
             mapper.when(() -> BookingMapper.convertToEntity(bookingDto, item, booker)).thenReturn(booking);
             when(bookingRepository.save(booking)).thenReturn(booking);
             mapper.when(() -> BookingMapper.convertToDto(booking)).thenReturn(bookingDto);
@@ -125,6 +210,7 @@ class BookingServiceImplTest {
 
             assertEquals(1L, result.getId());
             assertEquals(BookingStatus.WAITING, booking.getStatus());
+            verify(itemAvailabilityService).onBookingSaved(booking);
         }
     }
 
@@ -180,10 +266,59 @@ class BookingServiceImplTest {
             BookingDto result = bookingService.approveBooking(1L, 2L, true);
 
             assertEquals(BookingStatus.APPROVED, booking.getStatus());
+            verify(itemAvailabilityService).onBookingSaved(booking);
             assertEquals(1L, result.getId());
         }
     }
 
+    @Test
+    void createBookingOverlapError() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemAvailabilityService.isAvailable(1L, bookingDto.getStartTime(), bookingDto.getEndTime()))
+                .thenReturn(false);
+        when(itemAvailabilityService.findNextFreeSlot(eq(1L), eq(bookingDto.getStartTime()), any(Duration.class)))
+                .thenReturn(fixedTime.plusHours(5));
+
+        ConflictException e = assertThrows(ConflictException.class,
+                () -> bookingService.createBooking(bookingDto, 1L));
+        assertTrue(e.getMessage().endsWith(fixedTime.plusHours(5).toString()));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void approveBookingOverlapError() {
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.existsApprovedOverlap(1L, booking.getStartTime(), booking.getEndTime()))
+                .thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> bookingService.approveBooking(1L, 2L, true));
+        verify(itemRepository).findByIdForUpdate(1L);
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void approveBookingConstraintViolationError() {
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(booking)).thenReturn(booking);
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")))
+                .when(bookingRepository).flush();
+
+        assertThrows(ConflictException.class, () -> bookingService.approveBooking(1L, 2L, true));
+    }
+
+    @Test
+    void approveBookingOtherConstraintViolationIsRethrown() {
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(booking)).thenReturn(booking);
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("null value in column \"status\"", "23502")))
+                .when(bookingRepository).flush();
+
+        assertThrows(DataIntegrityViolationException.class, () -> bookingService.approveBooking(1L, 2L, true));
+    }
+
     @Test
     void approveBookingRejected() {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
@@ -224,11 +359,12 @@ class BookingServiceImplTest {
             currentBooking.setStatus(BookingStatus.APPROVED);
 
             localDateTime.when(LocalDateTime::now).thenReturn(fixedTime);
-            when(bookingRepository.findCurrentBookingsByBookerId(1L, fixedTime))
+            when(bookingRepository.findCurrentBookingsByBookerId(1L, fixedTime, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(currentBooking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.CURRENT);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.CURRENT, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -248,11 +384,12 @@ class BookingServiceImplTest {
             pastBooking.setStatus(BookingStatus.APPROVED);
 
             localDateTime.when(LocalDateTime::now).thenReturn(fixedTime);
-            when(bookingRepository.findPastBookingsByBookerId(1L, fixedTime))
+            when(bookingRepository.findPastBookingsByBookerId(1L, fixedTime, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(pastBooking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.PAST);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.PAST, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -272,11 +409,12 @@ class BookingServiceImplTest {
             futureBooking.setStatus(BookingStatus.WAITING);
 
             localDateTime.when(LocalDateTime::now).thenReturn(fixedTime);
-            when(bookingRepository.findFutureBookingsByBookerId(1L, fixedTime))
+            when(bookingRepository.findFutureBookingsByBookerId(1L, fixedTime, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(futureBooking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.FUTURE);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.FUTURE, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -286,11 +424,13 @@ class BookingServiceImplTest {
     @Test
     void getWaitingBookingsByBookerId() {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
-            when(bookingRepository.findByBooker_UserIdAndStatus(1L, BookingStatus.WAITING))
+            when(bookingRepository.findBookingsByBookerIdAndStatus(
+                    1L, BookingStatus.WAITING, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(booking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.WAITING);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.WAITING, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -306,11 +446,13 @@ class BookingServiceImplTest {
             rejectedBooking.setItem(item);
             rejectedBooking.setStatus(BookingStatus.REJECTED);
 
-            when(bookingRepository.findByBooker_UserIdAndStatus(1L, BookingStatus.REJECTED))
+            when(bookingRepository.findBookingsByBookerIdAndStatus(
+                    1L, BookingStatus.REJECTED, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(rejectedBooking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.REJECTED);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.REJECTED, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -320,17 +462,33 @@ class BookingServiceImplTest {
     @Test
     void getAllBookingsByBookerId() {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
-            when(bookingRepository.findByBooker_UserId(1L))
+            when(bookingRepository.findBookingsByBookerId(1L, OffsetPageRequest.of(0, 10)))
                     .thenReturn(Collections.singletonList(booking));
-            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class))).thenReturn(bookingDto);
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
 
-            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(1L, BookingState.ALL);
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.ALL, null, 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
         }
     }
 
+    @Test
+    void getAllBookingsByBookerIdAfterCursor() {
+        try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
+            BookingCursor cursor = new BookingCursor(fixedTime, 5L);
+            when(bookingRepository.findBookingsByBookerIdAfter(1L, fixedTime, 5L, OffsetPageRequest.of(0, 5)))
+                    .thenReturn(Collections.singletonList(booking));
+            mapper.when(() -> BookingMapper.convertToDto(any(Booking.class), any())).thenReturn(bookingDto);
+
+            Collection<BookingDto> result = bookingService.getBookingsByBookerIdAndState(
+                    1L, BookingState.ALL, cursor, 10, 5);
+
+            assertEquals(1, result.size());
+        }
+    }
+
     @Test
     void getBookingForBooker() {
         try (MockedStatic<BookingMapper> mapper = mockStatic(BookingMapper.class)) {
@@ -368,4 +526,25 @@ class BookingServiceImplTest {
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
         assertThrows(NotFoundException.class, () -> bookingService.getBookingById(1L, 3L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBookingsByBookerIdAndStateIsTimedPerState() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedAspect timedAspect = new TimedAspect(registry);
+        timedAspect.setMeterTagAnnotationHandler(new MeterTagAnnotationHandler(aClass -> null, aClass -> null));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(bookingService);
+        proxyFactory.addAspect(timedAspect);
+        BookingService timedService = proxyFactory.getProxy();
+        when(bookingRepository.findBookingsByBookerIdAndStatus(1L, BookingStatus.WAITING, OffsetPageRequest.of(0, 10)))
+                .thenReturn(Collections.emptyList());
+
+        timedService.getBookingsByBookerIdAndState(1L, BookingState.WAITING, null, 0, 10);
+
+        Timer timer = registry.find(MetricsConfig.BOOKING_QUERY_TIMER)
+                .tag("method", "getBookingsByBookerIdAndState")
+                .tag("state", "WAITING")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
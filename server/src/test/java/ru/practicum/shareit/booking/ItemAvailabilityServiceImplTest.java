@@ -0,0 +1,131 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemAvailabilityServiceImplTest {
+
+    @InjectMocks
+    private ItemAvailabilityServiceImpl availabilityService;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private LocalDateTime fixedTime;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AutoCloseable autoCloseable = MockitoAnnotations.openMocks(this);
+        if (autoCloseable != null) {
+            autoCloseable.close();
+        }
+
+        fixedTime = LocalDateTime.now().withNano(0);
+        when(bookingRepository.findWindowsByItemId(1L)).thenReturn(List.of(
+                new BookingWindow(1L, 10L, fixedTime.minusDays(3), fixedTime.minusDays(2), BookingStatus.APPROVED),
+                new BookingWindow(2L, 11L, fixedTime.plusDays(1), fixedTime.plusDays(2), BookingStatus.APPROVED),
+                new BookingWindow(3L, 12L, fixedTime.plusDays(3), fixedTime.plusDays(4), BookingStatus.APPROVED),
+                new BookingWindow(4L, 13L, fixedTime.minusHours(5), fixedTime.minusHours(1), BookingStatus.WAITING)));
+    }
+
+    @Test
+    void isAvailableChecksApprovedBookingsOnly() {
+        assertTrue(availabilityService.isAvailable(1L, fixedTime.minusHours(4), fixedTime.minusHours(2)));
+        assertTrue(availabilityService.isAvailable(1L, fixedTime.plusDays(2), fixedTime.plusDays(3)));
+        assertFalse(availabilityService.isAvailable(1L, fixedTime, fixedTime.plusDays(1).plusHours(1)));
+        assertFalse(availabilityService.isAvailable(1L, fixedTime.plusDays(1).plusHours(1), fixedTime.plusDays(5)));
+    }
+
+    @Test
+    void findNextFreeSlotSkipsGapsThatAreTooShort() {
+        assertEquals(fixedTime, availabilityService.findNextFreeSlot(1L, fixedTime, Duration.ofHours(12)));
+        assertEquals(fixedTime.plusDays(4),
+                availabilityService.findNextFreeSlot(1L, fixedTime.plusDays(1), Duration.ofDays(2)));
+        assertEquals(fixedTime.plusDays(2),
+                availabilityService.findNextFreeSlot(1L, fixedTime.plusDays(1), Duration.ofDays(1)));
+    }
+
+    @Test
+    void findLastAndNextBooking() {
+        Optional<BookingShortDto> last = availabilityService.findLastBooking(1L, fixedTime);
+        Optional<BookingShortDto> next = availabilityService.findNextBooking(1L, fixedTime);
+
+        assertEquals(4L, last.orElseThrow().getId());
+        assertEquals(13L, last.orElseThrow().getBookerId());
+        assertEquals(2L, next.orElseThrow().getId());
+        assertTrue(availabilityService.findNextBooking(1L, fixedTime.plusDays(5)).isEmpty());
+    }
+
+    @Test
+    void timelineIsLoadedOnceAndKeptInSync() {
+        assertTrue(availabilityService.isAvailable(1L, fixedTime.plusDays(5), fixedTime.plusDays(6)));
+
+        availabilityService.onBookingSaved(booking(5L, fixedTime.plusDays(5), fixedTime.plusDays(6),
+                BookingStatus.APPROVED));
+        availabilityService.onBookingSaved(booking(2L, fixedTime.plusDays(1), fixedTime.plusDays(2),
+                BookingStatus.REJECTED));
+
+        assertFalse(availabilityService.isAvailable(1L, fixedTime.plusDays(5), fixedTime.plusDays(6)));
+        assertTrue(availabilityService.isAvailable(1L, fixedTime.plusDays(1), fixedTime.plusDays(2)));
+        assertEquals(3L, availabilityService.findNextBooking(1L, fixedTime).orElseThrow().getId());
+        verify(bookingRepository, times(1)).findWindowsByItemId(1L);
+    }
+
+    @Test
+    void bookingSavedWhileTimelineLoadsIsNotLost() {
+        when(bookingRepository.findWindowsByItemId(2L)).thenAnswer(invocation -> {
+            Booking booking = booking(5L, fixedTime.plusDays(5), fixedTime.plusDays(6), BookingStatus.APPROVED);
+            booking.getItem().setItemId(2L);
+            availabilityService.onBookingSaved(booking);
+            return List.of();
+        });
+
+        assertFalse(availabilityService.isAvailable(2L, fixedTime.plusDays(5), fixedTime.plusDays(6)));
+        assertFalse(availabilityService.isAvailable(2L, fixedTime.plusDays(5), fixedTime.plusDays(6)));
+        verify(bookingRepository, times(1)).findWindowsByItemId(2L);
+    }
+
+    @Test
+    void bookingOfUnloadedItemDoesNotLoadTimeline() {
+        availabilityService.onBookingSaved(booking(5L, fixedTime, fixedTime.plusDays(1), BookingStatus.WAITING));
+
+        verify(bookingRepository, times(0)).findWindowsByItemId(1L);
+    }
+
+    private Booking booking(long id, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        User booker = new User();
+        booker.setUserId(20L);
+
+        Item item = new Item();
+        item.setItemId(1L);
+
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setBooker(booker);
+        booking.setItem(item);
+        booking.setStartTime(start);
+        booking.setEndTime(end);
+        booking.setStatus(status);
+        return booking;
+    }
+}
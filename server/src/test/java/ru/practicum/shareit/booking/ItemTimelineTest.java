@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingWindow;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemTimelineTest {
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 9, 10, 0, 0);
+
+    @Test
+    void ofDropsEndedWindowsExceptTheLastOne() {
+        ItemTimeline timeline = ItemTimeline.of(List.of(
+                window(1L, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED),
+                window(2L, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED),
+                window(3L, now.minusDays(1), now.minusHours(1), BookingStatus.WAITING),
+                window(4L, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED)), now);
+
+        assertEquals(2, timeline.size());
+        assertEquals(3L, timeline.last(now).orElseThrow().id());
+        assertEquals(4L, timeline.next(now).orElseThrow().id());
+    }
+
+    @Test
+    void withInsertsWindowsInOrderAndPrunesThem() {
+        ItemTimeline timeline = ItemTimeline.of(List.of(
+                window(1L, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED),
+                window(2L, now.plusDays(5), now.plusDays(6), BookingStatus.APPROVED)), now);
+
+        timeline = timeline.with(window(3L, now.plusDays(3), now.plusDays(4), BookingStatus.WAITING), now);
+        assertTrue(timeline.isFree(now.plusDays(3), now.plusDays(4)));
+
+        timeline = timeline.with(window(3L, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED), now);
+        assertFalse(timeline.isFree(now.plusDays(3), now.plusDays(4)));
+        assertEquals(now.plusDays(6), timeline.nextFreeSlot(now.plusDays(1), Duration.ofDays(2)));
+        assertEquals(3, timeline.size());
+
+        timeline = timeline.with(window(3L, now.plusDays(3), now.plusDays(4), BookingStatus.REJECTED),
+                now.plusDays(7));
+        assertEquals(1, timeline.size());
+        assertEquals(2L, timeline.last(now.plusDays(7)).orElseThrow().id());
+        assertTrue(timeline.isFree(now.plusDays(3), now.plusDays(4)));
+    }
+
+    private static BookingWindow window(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        return new BookingWindow(id, 10L, start, end, status);
+    }
+}
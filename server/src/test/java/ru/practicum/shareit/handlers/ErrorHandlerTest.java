@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.exceptions.ConflictException;
 import ru.practicum.shareit.exceptions.ForbiddenException;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.exceptions.InvalidCursorException;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -41,6 +43,11 @@ class ErrorHandlerTest {
             throw new ForbiddenException("Test Forbidden");
         }
 
+        @GetMapping("/test/conflict")
+        public void throwConflict() {
+            throw new ConflictException("Test Conflict");
+        }
+
         @GetMapping("/test/internal-error")
         public void throwInternalError() {
             throw new RuntimeException("Test Internal Error");
@@ -56,6 +63,11 @@ class ErrorHandlerTest {
             throw new IllegalArgumentException("Email must be provided");
         }
 
+        @GetMapping("/test/invalid-cursor")
+        public void throwInvalidCursor() {
+            throw new InvalidCursorException("not-a-cursor");
+        }
+
         @PostMapping("/test/validation-error")
         public void throwValidationError(@Valid @RequestBody TestDto dto) {
             // Метод не будет выполнен, так как валидация выбросит исключение
@@ -87,6 +99,15 @@ class ErrorHandlerTest {
                 .andExpect(jsonPath("$.messages.error").value("Test Forbidden"));
     }
 
+    @Test
+    void handleConflictException() throws Exception {
+        mockMvc.perform(get("/test/conflict")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("error:"))
+                .andExpect(jsonPath("$.messages.error").value("Test Conflict"));
+    }
+
     @Test
     void handleInternalError() throws Exception {
         mockMvc.perform(get("/test/internal-error")
@@ -105,6 +126,15 @@ class ErrorHandlerTest {
                 .andExpect(jsonPath("$.messages.error").value("Test Illegal Argument"));
     }
 
+    @Test
+    void handleInvalidCursor() throws Exception {
+        mockMvc.perform(get("/test/invalid-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"))
+                .andExpect(jsonPath("$.messages.error").value("Invalid cursor: not-a-cursor"));
+    }
+
     @Test
     void handleEmailError() throws Exception {
         mockMvc.perform(get("/test/email-error")
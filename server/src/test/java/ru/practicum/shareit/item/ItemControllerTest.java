@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
@@ -72,13 +74,50 @@ class ItemControllerTest {
     @Test
     void getItem() throws Exception {
         long itemId = 1L;
-        when(itemService.getItemById(itemId)).thenReturn(itemDto);
+        when(itemService.getItemById(itemId, null)).thenReturn(itemDto);
 
         mockMvc.perform(get("/items/{item-id}", itemId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    void getItemETagChangesWithNextBooking() throws Exception {
+        long itemId = 1L;
+        itemDto.setVersion(1L);
+        when(itemService.getItemById(itemId, null)).thenReturn(itemDto);
+
+        String etag = mockMvc.perform(get("/items/{item-id}", itemId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/items/{item-id}", itemId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        itemDto.setNextBooking(new BookingShortDto(2L, 2L,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)));
+        mockMvc.perform(get("/items/{item-id}", itemId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextBooking.id").value(2L));
+    }
+
+    @Test
+    void getItemForOwner() throws Exception {
+        long itemId = 1L;
+        long ownerId = 1L;
+        itemDto.setLastBooking(new BookingShortDto(1L, 2L,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1)));
+        when(itemService.getItemById(itemId, ownerId)).thenReturn(itemDto);
+
+        mockMvc.perform(get("/items/{item-id}", itemId)
+                        .header(HeaderConstants.USER_ID_HEADER, ownerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastBooking.id").value(1L))
+                .andExpect(jsonPath("$.lastBooking.bookerId").value(2L))
+                .andExpect(jsonPath("$.lastBooking.start").exists())
+                .andExpect(jsonPath("$.nextBooking").isEmpty());
+    }
+
     @Test
     void addItem() throws Exception {
         long userId = 1L;
@@ -131,7 +170,7 @@ class ItemControllerTest {
     @Test
     void searchItems() throws Exception {
         String text = "hammer";
-        when(itemService.searchItems(text)).thenReturn(Collections.singletonList(itemDto));
+        when(itemService.searchItems(text, 0, 10)).thenReturn(Collections.singletonList(itemDto));
 
         mockMvc.perform(get("/items/search")
                         .param("text", text))
@@ -139,6 +178,19 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L));
     }
 
+    @Test
+    void searchItemsWithPaging() throws Exception {
+        String text = "hammer";
+        when(itemService.searchItems(text, 5, 5)).thenReturn(Collections.singletonList(itemDto));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", text)
+                        .param("from", "5")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
     @Test
     void addComment() throws Exception {
         long userId = 1L;
@@ -1,12 +1,16 @@
 package ru.practicum.shareit.item;
 
 import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -35,6 +39,38 @@ class ItemMapperTest {
         assertTrue(result.getComments().isEmpty());
     }
 
+    @Test
+    void convertToDtoWithPreloadedDetails() {
+        User author = new User();
+        author.setUserId(2L);
+        author.setName("John");
+
+        Item item = new Item();
+        item.setItemId(1L);
+        item.setName("Hammer");
+        item.setDescription("A hammer");
+        item.setAvailable(true);
+        item.setOwnerId(1L);
+
+        Comment comment = new Comment();
+        comment.setId(1L);
+        comment.setText("Great item!");
+        comment.setItem(item);
+        comment.setAuthor(author);
+        comment.setCreated(LocalDateTime.now());
+
+        BookingShortDto lastBooking = new BookingShortDto(1L, 2L,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+
+        ItemDto result = ItemMapper.convertToDto(item, lastBooking, null, List.of(comment));
+
+        assertEquals(1L, result.getId());
+        assertEquals(lastBooking, result.getLastBooking());
+        assertNull(result.getNextBooking());
+        assertEquals(1, result.getComments().size());
+        assertEquals("John", result.getComments().iterator().next().getAuthorName());
+    }
+
     @Test
     void convertToEntity() {
         User owner = new User();
@@ -5,10 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.User;
 
 import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -63,16 +65,62 @@ class ItemRepositoryTest {
 
     @Test
     void searchItems() {
-        Collection<Item> result = itemRepository.searchItems("hammer");
+        Collection<Item> result = itemRepository.searchItems("hammer", PageRequest.of(0, 10));
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals(item.getItemId(), result.iterator().next().getItemId());
     }
 
+    @Test
+    void searchItemsRanksNameMatchesFirst() {
+        Item byDescription = new Item();
+        byDescription.setName("Toolbox");
+        byDescription.setDescription("Comes with a hammer");
+        byDescription.setAvailable(true);
+        byDescription.setOwnerId(owner.getUserId());
+        entityManager.persist(byDescription);
+
+        Item unavailable = new Item();
+        unavailable.setName("Old hammer");
+        unavailable.setDescription("Broken");
+        unavailable.setAvailable(false);
+        unavailable.setOwnerId(owner.getUserId());
+        entityManager.persist(unavailable);
+        entityManager.flush();
+
+        List<Item> result = itemRepository.searchItems("HAMMER", PageRequest.of(0, 10));
+
+        assertEquals(2, result.size());
+        assertEquals(item.getItemId(), result.get(0).getItemId());
+        assertEquals(byDescription.getItemId(), result.get(1).getItemId());
+
+        List<Item> secondPage = itemRepository.searchItems("hammer", PageRequest.of(1, 1));
+
+        assertEquals(1, secondPage.size());
+        assertEquals(byDescription.getItemId(), secondPage.getFirst().getItemId());
+    }
+
+    @Test
+    void searchItemsMatchesWildcardsLiterally() {
+        Item discount = new Item();
+        discount.setName("Saw");
+        discount.setDescription("50% off, no_returns");
+        discount.setAvailable(true);
+        discount.setOwnerId(owner.getUserId());
+        entityManager.persist(discount);
+        entityManager.flush();
+
+        List<Item> percent = itemRepository.searchItems("%", PageRequest.of(0, 10));
+        List<Item> underscore = itemRepository.searchItems("o_f", PageRequest.of(0, 10));
+
+        assertEquals(List.of(discount.getItemId()), percent.stream().map(Item::getItemId).toList());
+        assertTrue(underscore.isEmpty());
+    }
+
     @Test
     void searchItemsNoMatch() {
-        Collection<Item> result = itemRepository.searchItems("drill");
+        Collection<Item> result = itemRepository.searchItems("drill", PageRequest.of(0, 10));
 
         assertTrue(result.isEmpty());
     }
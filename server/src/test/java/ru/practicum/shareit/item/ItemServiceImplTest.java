@@ -8,6 +8,9 @@ import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.ItemAvailabilityService;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.exceptions.ValidationException;
@@ -16,6 +19,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemUpdateDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
@@ -25,15 +29,23 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,10 +69,17 @@ class ItemServiceImplTest {
     @Mock
     private ItemRequestRepository requestRepository;
 
+    @Mock
+    private ItemAvailabilityService itemAvailabilityService;
+
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+
     private Item item;
     private User user;
     private Booking lastBooking;
-    private Booking nextBooking;
+    private BookingShortDto lastBookingShort;
+    private BookingShortDto nextBookingShort;
     private Comment comment;
     private ItemDto itemDto;
     private CommentDto commentDto;
@@ -93,13 +112,9 @@ class ItemServiceImplTest {
         lastBooking.setBooker(user);
         lastBooking.setStatus(BookingStatus.APPROVED);
 
-        nextBooking = new Booking();
-        nextBooking.setId(2L);
-        nextBooking.setStartTime(LocalDateTime.now().plusDays(1));
-        nextBooking.setEndTime(LocalDateTime.now().plusDays(2));
-        nextBooking.setItem(item);
-        nextBooking.setBooker(user);
-        nextBooking.setStatus(BookingStatus.WAITING);
+        lastBookingShort = new BookingShortDto(1L, 2L, lastBooking.getStartTime(), lastBooking.getEndTime());
+        nextBookingShort = new BookingShortDto(2L, 2L,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
 
         comment = new Comment();
         comment.setId(1L);
@@ -128,37 +143,83 @@ class ItemServiceImplTest {
     @Test
     void findItemByUserId() {
         try (MockedStatic<ItemMapper> mapper = mockStatic(ItemMapper.class)) {
+            ItemBookingView lastView = mock(ItemBookingView.class);
+            when(lastView.getItemId()).thenReturn(1L);
+            when(lastView.getId()).thenReturn(lastBookingShort.getId());
+            when(lastView.getBookerId()).thenReturn(lastBookingShort.getBookerId());
+            when(lastView.getStartTime()).thenReturn(lastBookingShort.getStartTime());
+            when(lastView.getEndTime()).thenReturn(lastBookingShort.getEndTime());
+
             when(itemRepository.findByOwnerId(1L)).thenReturn(Collections.singletonList(item));
-            mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
+            when(bookingRepository.findLastBookingsForOwnerItems(eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(Collections.singletonList(lastView));
+            when(bookingRepository.findNextBookingsForOwnerItems(eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(Collections.emptyList());
+            when(commentRepository.findByItemOwnerId(1L)).thenReturn(Collections.singletonList(comment));
+            mapper.when(() -> ItemMapper.convertToDto(item, lastBookingShort, null, List.of(comment)))
+                    .thenReturn(itemDto);
 
             Collection<ItemDto> result = itemService.findByUserId(1L);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
+            mapper.verify(() -> ItemMapper.convertToDto(item), never());
         }
     }
 
+    @Test
+    void findItemByUserIdWithoutItems() {
+        when(itemRepository.findByOwnerId(1L)).thenReturn(Collections.emptyList());
+
+        Collection<ItemDto> result = itemService.findByUserId(1L);
+
+        assertTrue(result.isEmpty());
+        verify(bookingRepository, never()).findLastBookingsForOwnerItems(anyLong(), any(LocalDateTime.class));
+        verify(commentRepository, never()).findByItemOwnerId(anyLong());
+    }
+
     @Test
     void getItemByIdWithDetails() {
         try (MockedStatic<ItemMapper> mapper = mockStatic(ItemMapper.class)) {
             when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-            when(bookingRepository.findLastBookingForItem(1L)).thenReturn(lastBooking);
-            when(bookingRepository.findNextBookingForItem(1L)).thenReturn(nextBooking);
+            when(itemAvailabilityService.findLastBooking(eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(lastBookingShort));
+            when(itemAvailabilityService.findNextBooking(eq(1L), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(nextBookingShort));
             when(commentRepository.findByItem_ItemId(1L)).thenReturn(Collections.singletonList(comment));
             mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
 
-            ItemDto result = itemService.getItemById(1L);
+            ItemDto result = itemService.getItemById(1L, 1L);
 
             assertNotNull(result);
             assertEquals(1L, result.getId());
-            verify(itemRepository).save(item);
+            assertEquals(lastBookingShort, result.getLastBooking());
+            assertEquals(nextBookingShort, result.getNextBooking());
+            verify(itemRepository, never()).save(any(Item.class));
+        }
+    }
+
+    @Test
+    void getItemByIdForNotOwner() {
+        try (MockedStatic<ItemMapper> mapper = mockStatic(ItemMapper.class)) {
+            when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+            when(commentRepository.findByItem_ItemId(1L)).thenReturn(Collections.singletonList(comment));
+            mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
+
+            ItemDto result = itemService.getItemById(1L, 2L);
+
+            assertNull(result.getLastBooking());
+            assertNull(result.getNextBooking());
+            verify(itemAvailabilityService, never()).findLastBooking(anyLong(), any(LocalDateTime.class));
+            verify(itemAvailabilityService, never()).findNextBooking(anyLong(), any(LocalDateTime.class));
+            verify(itemRepository, never()).save(any(Item.class));
         }
     }
 
     @Test
     void getItemByIdNotFoundError() {
         when(itemRepository.findById(1L)).thenReturn(Optional.empty());
-        assertThrows(NotFoundException.class, () -> itemService.getItemById(1L));
+        assertThrows(NotFoundException.class, () -> itemService.getItemById(1L, 1L));
     }
 
     @Test
@@ -175,16 +236,13 @@ class ItemServiceImplTest {
             when(requestRepository.findById(1L)).thenReturn(Optional.of(itemRequest));
             mapper.when(() -> ItemMapper.convertToEntity(inputDto, user, itemRequest)).thenReturn(item);
             when(itemRepository.save(item)).thenReturn(item);
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-            when(bookingRepository.findLastBookingForItem(1L)).thenReturn(null);
-            when(bookingRepository.findNextBookingForItem(1L)).thenReturn(null);
             mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
 
             ItemDto result = itemService.addItem(inputDto, userId);
 
             assertNotNull(result);
             assertEquals(1L, result.getId());
-            verify(itemRepository, times(2)).save(item);
+            verify(itemRepository).save(item);
         }
     }
 
@@ -267,16 +325,13 @@ class ItemServiceImplTest {
             when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             mapper.when(() -> ItemMapper.convertToEntity(inputDto, user, null)).thenReturn(item);
             when(itemRepository.save(item)).thenReturn(item);
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-            when(bookingRepository.findLastBookingForItem(1L)).thenReturn(null);
-            when(bookingRepository.findNextBookingForItem(1L)).thenReturn(null);
             mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
 
             ItemDto result = itemService.addItem(inputDto, userId);
 
             assertNotNull(result);
             assertEquals(1L, result.getId());
-            verify(itemRepository, times(2)).save(item);
+            verify(itemRepository).save(item);
         }
     }
 
@@ -303,16 +358,14 @@ class ItemServiceImplTest {
             when(userRepository.existsById(userId)).thenReturn(true);
             when(itemRepository.findByOwnerId(userId)).thenReturn(Collections.singletonList(item));
             when(itemRepository.save(item)).thenReturn(item);
-            when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-            when(bookingRepository.findLastBookingForItem(1L)).thenReturn(null);
-            when(bookingRepository.findNextBookingForItem(1L)).thenReturn(null);
             mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
 
             ItemDto result = itemService.updateItem(updateDto, userId, itemId);
 
             assertNotNull(result);
             assertEquals(1L, result.getId());
-            verify(itemRepository, times(2)).save(item);
+            verify(itemRepository).save(item);
+            verify(itemSearchEngine).onItemSaved(item);
         }
     }
 
@@ -332,19 +385,33 @@ class ItemServiceImplTest {
         long userId = 1L;
         long itemId = 1L;
 
+        when(itemRepository.deleteByOwnerIdAndItemId(userId, itemId)).thenReturn(1L);
+
         itemService.deleteItem(userId, itemId);
 
         verify(itemRepository).deleteByOwnerIdAndItemId(userId, itemId);
+        verify(itemSearchEngine).onItemDeleted(itemId);
+    }
+
+    @Test
+    void deleteItemOfAnotherOwner() {
+        long userId = 2L;
+        long itemId = 1L;
+        when(itemRepository.deleteByOwnerIdAndItemId(userId, itemId)).thenReturn(0L);
+
+        itemService.deleteItem(userId, itemId);
+
+        verify(itemSearchEngine, never()).onItemDeleted(itemId);
     }
 
     @Test
     void searchItems() {
         try (MockedStatic<ItemMapper> mapper = mockStatic(ItemMapper.class)) {
             String text = "hammer";
-            when(itemRepository.searchItems(text)).thenReturn(Collections.singletonList(item));
+            when(itemSearchEngine.search(text, 0, 10)).thenReturn(Collections.singletonList(item));
             mapper.when(() -> ItemMapper.convertToDto(item)).thenReturn(itemDto);
 
-            Collection<ItemDto> result = itemService.searchItems(text);
+            Collection<ItemDto> result = itemService.searchItems(" " + text + " ", 0, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
@@ -353,9 +420,10 @@ class ItemServiceImplTest {
 
     @Test
     void searchItemsEmptyList() {
-        Collection<ItemDto> result = itemService.searchItems("");
+        Collection<ItemDto> result = itemService.searchItems("", 0, 10);
 
         assertTrue(result.isEmpty());
+        verify(itemSearchEngine, never()).search(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -372,19 +440,4 @@ class ItemServiceImplTest {
 
         assertThrows(ValidationException.class, () -> itemService.addComment(itemId, userId, inputComment));
     }
-
-    @Test
-    void updateBookingsForItem() {
-        long itemId = 1L;
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingRepository.findLastBookingForItem(itemId)).thenReturn(lastBooking);
-        when(bookingRepository.findNextBookingForItem(itemId)).thenReturn(nextBooking);
-        when(itemRepository.save(item)).thenReturn(item);
-
-        itemService.updateBookingsForItem(itemId);
-
-        assertEquals(lastBooking, item.getLastBooking());
-        assertEquals(nextBooking, item.getNextBooking());
-        verify(itemRepository).save(item);
-    }
-}
\ No newline at end of file
+}
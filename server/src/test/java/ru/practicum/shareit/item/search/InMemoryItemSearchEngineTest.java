@@ -0,0 +1,141 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.OffsetPageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryItemSearchEngineTest {
+
+    private ItemRepository itemRepository;
+    private InMemoryItemSearchEngine engine;
+
+    private Item hammer;
+    private Item toolbox;
+    private Item drill;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        engine = new InMemoryItemSearchEngine(itemRepository, 2);
+
+        hammer = item(1L, "Hammer", "Steel claw hammer", true);
+        toolbox = item(2L, "Toolbox", "Comes with a hammer and pliers", true);
+        drill = item(3L, "Drill", "Cordless drill", true);
+
+        when(itemRepository.findByIsAvailableTrue(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            List<Item> all = List.of(hammer, toolbox, drill);
+            int start = (int) pageable.getOffset();
+            int end = Math.min(start + pageable.getPageSize(), all.size());
+            return new SliceImpl<>(all.subList(start, end), pageable, end < all.size());
+        });
+        when(itemRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return List.of(hammer, toolbox, drill).stream()
+                    .filter(item -> ids.contains(item.getItemId()))
+                    .toList();
+        });
+    }
+
+    @Test
+    void searchFallsBackToDatabaseUntilRebuilt() {
+        when(itemRepository.searchItems("hammer", OffsetPageRequest.of(0, 10))).thenReturn(List.of(hammer));
+
+        List<Item> result = engine.search("hammer", 0, 10);
+
+        assertFalse(engine.isReady());
+        assertEquals(List.of(hammer), result);
+        verify(itemRepository).searchItems("hammer", OffsetPageRequest.of(0, 10));
+    }
+
+    @Test
+    void searchRanksNameMatchesFirst() {
+        engine.rebuild();
+
+        List<Item> result = engine.search("HAMM", 0, 10);
+
+        assertTrue(engine.isReady());
+        assertEquals(List.of(hammer, toolbox), result);
+        assertEquals(List.of(toolbox), engine.search("hamm", 1, 10));
+    }
+
+    @Test
+    void searchRequiresAllTokens() {
+        engine.rebuild();
+
+        assertEquals(List.of(toolbox), engine.search("hammer pliers", 0, 10));
+        assertTrue(engine.search("hammer saw", 0, 10).isEmpty());
+    }
+
+    @Test
+    void incrementalUpdates() {
+        engine.rebuild();
+
+        hammer.setAvailable(false);
+        engine.onItemSaved(hammer);
+        assertEquals(List.of(toolbox), engine.search("hammer", 0, 10));
+
+        drill.setDescription("Cordless drill with a hammer mode");
+        engine.onItemSaved(drill);
+        assertEquals(List.of(toolbox, drill), engine.search("hammer", 0, 10));
+
+        engine.onItemDeleted(toolbox.getItemId());
+        assertEquals(List.of(drill), engine.search("hammer", 0, 10));
+        assertTrue(engine.search("pliers", 0, 10).isEmpty());
+    }
+
+    @Test
+    void updatesDuringRebuildAreNotOverwritten() {
+        engine.onItemDeleted(toolbox.getItemId());
+        engine.rebuild();
+
+        assertEquals(List.of(hammer), engine.search("hammer", 0, 10));
+    }
+
+    @Test
+    void postingOperations() {
+        long[] ids = InMemoryItemSearchEngine.insert(new long[]{1, 5}, 3);
+        assertArrayEquals(new long[]{1, 3, 5}, ids);
+        assertArrayEquals(new long[]{1, 5}, InMemoryItemSearchEngine.delete(ids, 3));
+        assertArrayEquals(new long[]{3, 5}, InMemoryItemSearchEngine.intersect(ids, new long[]{2, 3, 5}));
+        assertArrayEquals(new long[]{1, 2, 3, 5}, InMemoryItemSearchEngine.union(ids, new long[]{2, 3}));
+    }
+
+    @Test
+    void postingBufferKeepsAppendOrderAndSkipsExcludedIds() {
+        InMemoryItemSearchEngine.PostingBuffer buffer = new InMemoryItemSearchEngine.PostingBuffer();
+        for (long id = 1; id <= 10; id++) {
+            buffer.append(id);
+        }
+
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, buffer.toArray(Set.of()));
+        assertArrayEquals(new long[]{1, 2, 4, 5, 6, 7, 8, 9}, buffer.toArray(Set.of(3L, 10L)));
+    }
+
+    private static Item item(long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setItemId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+}
@@ -7,14 +7,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.util.HeaderConstants;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -24,6 +27,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,6 +88,29 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.items[0].id").value(1L));
     }
 
+    @Test
+    void getRequestETagChangesWithItemComment() throws Exception {
+        long requestId = 1L;
+        requestDto.setVersion(1L);
+        when(requestService.getRequestById(requestId)).thenReturn(requestDto);
+
+        String etag = mockMvc.perform(get("/requests/{request-id}", requestId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/requests/{request-id}", requestId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        CommentDto comment = new CommentDto();
+        comment.setId(5L);
+        comment.setText("Works well");
+        comment.setAuthorName("John");
+        requestDto.getItems().iterator().next().setComments(List.of(comment));
+        mockMvc.perform(get("/requests/{request-id}", requestId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].comments[0].id").value(5L));
+    }
+
     @Test
     void addRequest() throws Exception {
         long userId = 1L;
@@ -135,13 +162,40 @@ class ItemRequestControllerTest {
     @Test
     void getAllRequests() throws Exception {
         long userId = 1L;
-        when(requestService.getAllRequestsExceptUser(userId)).thenReturn(Collections.singletonList(requestDto));
+        when(requestService.getAllRequestsExceptUser(userId, null, 0, 10))
+                .thenReturn(Collections.singletonList(requestDto));
 
         mockMvc.perform(get("/requests/all")
                         .header(HeaderConstants.USER_ID_HEADER, userId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].description").value("Need a hammer"));
+                .andExpect(jsonPath("$[0].description").value("Need a hammer"))
+                .andExpect(header().doesNotExist(HeaderConstants.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllRequestsWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/requests/all")
+                        .header(HeaderConstants.USER_ID_HEADER, 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllRequestsWithCursor() throws Exception {
+        long userId = 2L;
+        ItemRequestCursor cursor = new ItemRequestCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 7L);
+        when(requestService.getAllRequestsExceptUser(userId, cursor, 0, 1))
+                .thenReturn(Collections.singletonList(requestDto));
+
+        mockMvc.perform(get("/requests/all")
+                        .header(HeaderConstants.USER_ID_HEADER, userId)
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(header().string(HeaderConstants.NEXT_CURSOR_HEADER,
+                        ItemRequestCursor.after(requestDto).encode()));
     }
 }
\ No newline at end of file
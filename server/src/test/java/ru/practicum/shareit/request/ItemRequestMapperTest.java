@@ -1,10 +1,15 @@
 package ru.practicum.shareit.request;
 
 import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -30,6 +35,32 @@ class ItemRequestMapperTest {
         assertTrue(result.getItems().isEmpty());
     }
 
+    @Test
+    void convertToDtoWithPreloadedItemsAndComments() {
+        User author = new User();
+        author.setUserId(2L);
+        author.setName("Jane");
+        ItemRequest request = new ItemRequest();
+        request.setRequestId(1L);
+        request.setDescription("Need a hammer");
+        Item hammer = new Item();
+        hammer.setItemId(3L);
+        hammer.setName("Hammer");
+        hammer.setRequest(request);
+        Comment comment = new Comment();
+        comment.setId(4L);
+        comment.setText("Works well");
+        comment.setAuthor(author);
+
+        ItemRequestDto result = ItemRequestMapper.convertToDto(request, List.of(hammer),
+                Map.of(3L, List.of(comment)));
+
+        assertEquals(1, result.getItems().size());
+        ItemDto itemDto = result.getItems().iterator().next();
+        assertEquals(1L, itemDto.getRequestId());
+        assertEquals("Jane", itemDto.getComments().iterator().next().getAuthorName());
+    }
+
     @Test
     void convertToEntity() {
         User user = new User();
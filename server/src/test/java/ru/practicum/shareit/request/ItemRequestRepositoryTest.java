@@ -5,10 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -51,6 +53,29 @@ class ItemRequestRepositoryTest {
         assertEquals(itemRequest.getRequestId(), result.iterator().next().getRequestId());
     }
 
+    @Test
+    void findRequestsOfOtherUsersPagesNewestFirstWithKeysetCursor() {
+        User other = new User();
+        other.setName("Jane");
+        other.setEmail("jane@example.com");
+        entityManager.persist(other);
+        LocalDateTime created = LocalDateTime.of(2030, 1, 1, 12, 0);
+        ItemRequest oldest = persistRequest(other, created.minusDays(1));
+        ItemRequest sameTimeFirst = persistRequest(other, created);
+        ItemRequest sameTimeSecond = persistRequest(other, created);
+        entityManager.flush();
+
+        List<ItemRequest> firstPage = itemRequestRepository.findRequestsOfOtherUsers(
+                user.getUserId(), PageRequest.of(0, 2));
+        ItemRequest last = firstPage.getLast();
+        List<ItemRequest> secondPage = itemRequestRepository.findRequestsOfOtherUsersAfter(
+                user.getUserId(), last.getCreated(), last.getRequestId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(sameTimeSecond.getRequestId(), sameTimeFirst.getRequestId()),
+                firstPage.stream().map(ItemRequest::getRequestId).toList());
+        assertEquals(List.of(oldest.getRequestId()), secondPage.stream().map(ItemRequest::getRequestId).toList());
+    }
+
     @Test
     void deleteByUserIdAndRequestId() {
         itemRequestRepository.deleteByUserIdAndRequestId(user.getUserId(), itemRequest.getRequestId());
@@ -58,4 +83,12 @@ class ItemRequestRepositoryTest {
         ItemRequest deleted = itemRequestRepository.findById(itemRequest.getRequestId()).orElse(null);
         assertNull(deleted);
     }
-}
\ No newline at end of file
+
+    private ItemRequest persistRequest(User author, LocalDateTime created) {
+        ItemRequest request = new ItemRequest();
+        request.setDescription("Need a drill");
+        request.setUserId(author.getUserId());
+        request.setCreated(created);
+        return entityManager.persist(request);
+    }
+}
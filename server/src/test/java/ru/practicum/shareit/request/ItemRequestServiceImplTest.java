@@ -7,19 +7,29 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import ru.practicum.shareit.exceptions.NotFoundException;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.util.OffsetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +44,12 @@ class ItemRequestServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
     private User user;
     private ItemRequest request;
     private ItemRequestDto requestDto;
@@ -122,29 +138,53 @@ class ItemRequestServiceImplTest {
             otherRequest.setRequestId(2L);
             otherRequest.setUserId(2L);
             otherRequest.setDescription("Need a drill");
+            Item drill = new Item();
+            drill.setItemId(5L);
+            drill.setRequest(otherRequest);
+            Comment comment = new Comment();
+            comment.setId(9L);
+            comment.setItem(drill);
             ItemRequestDto otherRequestDto = new ItemRequestDto();
             otherRequestDto.setId(2L);
             otherRequestDto.setDescription("Need a drill");
-            when(requestRepository.findAll()).thenReturn(Collections.singletonList(otherRequest));
-            mapper.when(() -> ItemRequestMapper.convertToDto(otherRequest)).thenReturn(otherRequestDto);
+            ItemRequestCursor cursor = new ItemRequestCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 3L);
+            when(requestRepository.findRequestsOfOtherUsersAfter(1L, cursor.created(), cursor.id(), OffsetPageRequest.of(0, 10)))
+                    .thenReturn(List.of(otherRequest));
+            when(itemRepository.findByRequestRequestIdIn(List.of(2L))).thenReturn(List.of(drill));
+            when(commentRepository.findByItemIdIn(List.of(5L))).thenReturn(List.of(comment));
+            mapper.when(() -> ItemRequestMapper.convertToDto(otherRequest, List.of(drill),
+                    Map.of(5L, List.of(comment)))).thenReturn(otherRequestDto);
 
-            Collection<ItemRequestDto> result = requestService.getAllRequestsExceptUser(1L);
+            Collection<ItemRequestDto> result = requestService.getAllRequestsExceptUser(1L, cursor, 20, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(2L, result.iterator().next().getId());
         }
     }
 
+    @Test
+    void getAllRequestsExceptUserSkipsItemQueryForEmptyPage() {
+        when(requestRepository.findRequestsOfOtherUsers(1L, OffsetPageRequest.of(5, 10)))
+                .thenReturn(List.of());
+
+        Collection<ItemRequestDto> result = requestService.getAllRequestsExceptUser(1L, null, 5, 10);
+
+        assertTrue(result.isEmpty());
+        verify(itemRepository, never()).findByRequestRequestIdIn(any());
+    }
+
     @Test
     void findRequestsByUserId() {
         try (MockedStatic<ItemRequestMapper> mapper = mockStatic(ItemRequestMapper.class)) {
             when(requestRepository.findByUserId(1L)).thenReturn(Collections.singletonList(request));
-            mapper.when(() -> ItemRequestMapper.convertToDto(request)).thenReturn(requestDto);
+            when(itemRepository.findByRequestRequestIdIn(List.of(1L))).thenReturn(List.of());
+            mapper.when(() -> ItemRequestMapper.convertToDto(request, List.of(), Map.of())).thenReturn(requestDto);
 
             Collection<ItemRequestDto> result = requestService.findByUserId(1L);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
+            verify(commentRepository, never()).findByItemIdIn(any());
         }
     }
 
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserImportError;
+import ru.practicum.shareit.user.dto.UserImportResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({UserBulkServiceImpl.class, UserJdbcRepository.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = "shareit.users.bulk.batch-size=2")
+class UserBulkServiceImplTest {
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        User existing = new User();
+        existing.setName("Taken");
+        existing.setEmail("taken@example.com");
+        entityManager.persist(existing);
+        entityManager.flush();
+    }
+
+    @Test
+    void importUsersInsertsValidRowsAndReportsRejectedOnes() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"name\":\"Ann\",\"email\":\"ann@example.com\"}",
+                "not json",
+                "{\"name\":\"Bob\",\"email\":\"taken@example.com\"}",
+                "",
+                "{\"name\":\"Ann again\",\"email\":\"ann@example.com\"}",
+                "{\"name\":\"\",\"email\":\"nameless@example.com\"}",
+                "{\"name\":\"Carl\",\"email\":\"not-an-email\"}",
+                "{\"name\":\"Dora\",\"email\":\"dora@example.com\"}",
+                "{\"name\":\"" + "E".repeat(256) + "\",\"email\":\"long@example.com\"}");
+
+        UserImportResult result = userBulkService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, result.imported());
+        assertEquals(6, result.failed());
+        assertEquals(List.of(2L, 3L, 5L, 6L, 7L, 9L),
+                result.errors().stream().map(UserImportError::line).sorted().toList());
+        assertTrue(userRepository.existsByEmail("ann@example.com"));
+        assertTrue(userRepository.existsByEmail("dora@example.com"));
+    }
+
+    @Test
+    void importUsersReservesOneIdBlockPerBatch() throws Exception {
+        String ndjson = "{\"name\":\"Eve\",\"email\":\"eve@example.com\"}\n"
+                + "{\"name\":\"Finn\",\"email\":\"finn@example.com\"}";
+
+        userBulkService.importUsers(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        List<Long> ids = userRepository.findAll().stream()
+                .filter(user -> Set.of("eve@example.com", "finn@example.com").contains(user.getEmail()))
+                .map(User::getUserId)
+                .sorted()
+                .toList();
+        assertEquals(2, ids.size());
+        assertEquals(ids.getFirst() + 1, ids.getLast());
+    }
+
+    @Test
+    void exportUsersWritesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        userBulkService.exportUsers(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(1, lines.size());
+        UserDto exported = objectMapper.readValue(lines.getFirst(), UserDto.class);
+        assertEquals("taken@example.com", exported.getEmail());
+    }
+}
@@ -6,21 +6,35 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserImportError;
+import ru.practicum.shareit.user.dto.UserImportResult;
+import ru.practicum.shareit.util.HeaderConstants;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -35,6 +49,9 @@ class UserControllerTest {
     @MockBean
     private UserServiceImpl userService;
 
+    @MockBean
+    private UserBulkService userBulkService;
+
     private UserDto userDto;
 
     @BeforeEach
@@ -47,12 +64,51 @@ class UserControllerTest {
 
     @Test
     void getUsers() throws Exception {
-        when(userService.getUsers()).thenReturn(Collections.singletonList(userDto));
+        when(userService.getUsers(null, 10)).thenReturn(Collections.singletonList(userDto));
 
         mockMvc.perform(get("/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].name").value("John"));
+                .andExpect(jsonPath("$[0].name").value("John"))
+                .andExpect(header().doesNotExist(HeaderConstants.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getUsersWithCursor() throws Exception {
+        UserCursor cursor = new UserCursor(7L);
+        userDto.setId(8L);
+        when(userService.getUsers(cursor, 1)).thenReturn(List.of(userDto));
+
+        mockMvc.perform(get("/users")
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(8L))
+                .andExpect(header().string(HeaderConstants.NEXT_CURSOR_HEADER, new UserCursor(8L).encode()));
+    }
+
+    @Test
+    void getUsersWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/users").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamUsers() throws Exception {
+        String body = "[{\"id\":1,\"name\":\"John\",\"email\":\"john@example.com\"}]";
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(body.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(userService).streamUsers(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/users").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(body));
     }
 
     @Test
@@ -66,6 +122,28 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.name").value("John"));
     }
 
+    @Test
+    void getUserReturnsNotModifiedForMatchingETag() throws Exception {
+        long userId = 1L;
+        userDto.setVersion(3L);
+        when(userService.getUserById(userId)).thenReturn(userDto);
+
+        String etag = mockMvc.perform(get("/users/{user-id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/{user-id}", userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        userDto.setVersion(4L);
+        mockMvc.perform(get("/users/{user-id}", userId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("John"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
     @Test
     void createUser() throws Exception {
         UserDto inputDto = new UserDto();
@@ -82,6 +160,38 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.name").value("John"));
     }
 
+    @Test
+    void importUsers() throws Exception {
+        when(userBulkService.importUsers(any(InputStream.class))).thenReturn(new UserImportResult(1, 1,
+                List.of(new UserImportError(2, null, "Malformed JSON"))));
+
+        mockMvc.perform(post("/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"John\",\"email\":\"john@example.com\"}\nnot json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Malformed JSON"));
+    }
+
+    @Test
+    void exportUsers() throws Exception {
+        String line = "{\"id\":1,\"name\":\"John\",\"email\":\"john@example.com\"}\n";
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(line.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(userBulkService).exportUsers(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line));
+    }
+
     @Test
     void updateUser() throws Exception {
         long userId = 1L;
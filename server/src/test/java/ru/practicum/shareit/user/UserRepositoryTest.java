@@ -1,9 +1,18 @@
 package ru.practicum.shareit.user;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -19,6 +28,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void existsByEmailTrue() {
         User user = new User();
@@ -50,4 +62,83 @@ class UserRepositoryTest {
         assertNotNull(found);
         assertEquals("John", found.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByUserIdGreaterThanPagesInIdOrder() {
+        User first = persistUser("first@example.com");
+        User second = persistUser("second@example.com");
+        User third = persistUser("third@example.com");
+
+        List<User> firstPage = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                first.getUserId() - 1, PageRequest.of(0, 2));
+        List<User> secondPage = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                firstPage.getLast().getUserId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of(first.getUserId(), second.getUserId()),
+                firstPage.stream().map(User::getUserId).toList());
+        assertEquals(List.of(third.getUserId()), secondPage.stream().map(User::getUserId).toList());
+    }
+
+    @Test
+    void streamAllReturnsUsersInIdOrder() {
+        User first = persistUser("first@example.com");
+        User second = persistUser("second@example.com");
+        entityManager.clear();
+
+        try (Stream<User> users = userRepository.streamAll()) {
+            List<Long> ids = users.map(User::getUserId)
+                    .filter(id -> id >= first.getUserId())
+                    .toList();
+            assertEquals(List.of(first.getUserId(), second.getUserId()), ids);
+        }
+    }
+
+    @Test
+    void updateIncrementsVersion() {
+        User user = new User();
+        user.setName("John");
+        user.setEmail("john@example.com");
+        entityManager.persistAndFlush(user);
+        assertEquals(0L, user.getVersion());
+
+        user.setName("Johnny");
+        userRepository.saveAndFlush(user);
+
+        assertEquals(1L, userRepository.findById(user.getUserId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void existsByEmailIsServedFromQueryCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getQueryCacheHitCount();
+
+        userRepository.existsByEmail("cached@example.com");
+        userRepository.existsByEmail("cached@example.com");
+
+        assertEquals(hits + 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findUserByIdIsServedFromSecondLevelCache() {
+        User user = new User();
+        user.setName("Cached");
+        user.setEmail("cached-user@example.com");
+        User saved = userRepository.save(user);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        User found = userRepository.findById(saved.getUserId()).orElseThrow();
+        userRepository.deleteById(saved.getUserId());
+
+        assertEquals("Cached", found.getName());
+        assertEquals(hits + 1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    private User persistUser(String email) {
+        User user = new User();
+        user.setName("John");
+        user.setEmail(email);
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -1,21 +1,29 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.exceptions.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +36,12 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     private User user;
     private UserDto userDto;
 
@@ -52,16 +66,56 @@ class UserServiceImplTest {
     @Test
     void getUsers() {
         try (MockedStatic<UserMapper> mapper = mockStatic(UserMapper.class)) {
-            when(userRepository.findAll()).thenReturn(Collections.singletonList(user));
+            when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(0L, PageRequest.of(0, 10)))
+                    .thenReturn(Collections.singletonList(user));
             mapper.when(() -> UserMapper.convertToDto(user)).thenReturn(userDto);
 
-            var result = userService.getUsers();
+            var result = userService.getUsers(null, 10);
 
             assertFalse(result.isEmpty());
             assertEquals(1L, result.iterator().next().getId());
         }
     }
 
+    @Test
+    void getUsersAfterCursor() {
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(1L, PageRequest.of(0, 10)))
+                .thenReturn(Collections.emptyList());
+
+        var result = userService.getUsers(new UserCursor(1L), 10);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void streamUsers() throws Exception {
+        User other = new User();
+        other.setUserId(2L);
+        other.setName("Jane");
+        other.setEmail("jane@example.com");
+        when(userRepository.streamAll()).thenReturn(Stream.of(user, other));
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        userService.streamUsers(target);
+
+        UserDto[] users = objectMapper.readValue(target.toString(StandardCharsets.UTF_8), UserDto[].class);
+        assertEquals(2, users.length);
+        assertEquals(1L, users[0].getId());
+        assertEquals("Jane", users[1].getName());
+        verify(entityManager).detach(user);
+        verify(entityManager).detach(other);
+    }
+
+    @Test
+    void streamUsersWritesEmptyArray() throws Exception {
+        when(userRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        userService.streamUsers(target);
+
+        assertEquals("[]", target.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     void getUserById() {
         try (MockedStatic<UserMapper> mapper = mockStatic(UserMapper.class)) {